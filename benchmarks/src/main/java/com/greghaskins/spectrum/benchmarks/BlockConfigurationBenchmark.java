@@ -0,0 +1,61 @@
+package com.greghaskins.spectrum.benchmarks;
+
+import com.greghaskins.spectrum.internal.configuration.BlockConfiguration;
+import com.greghaskins.spectrum.internal.configuration.BlockTagging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merging configuration down a hierarchy {@code depth} levels deep, where each level is
+ * tagged with {@code width} tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockConfigurationBenchmark {
+  @Param({"1", "8"})
+  public int width;
+
+  @Param({"1", "8"})
+  public int depth;
+
+  private BlockConfiguration[] levels;
+
+  @Setup
+  public void setUp() {
+    this.levels = new BlockConfiguration[this.depth];
+    for (int level = 0; level < this.depth; level++) {
+      final String[] tags = new String[this.width];
+      for (int tag = 0; tag < this.width; tag++) {
+        tags[tag] = "level" + level + "tag" + tag;
+      }
+      this.levels[level] = BlockConfiguration.defaultConfiguration();
+      this.levels[level].add(new BlockTagging(tags));
+    }
+  }
+
+  @Benchmark
+  public BlockConfiguration mergeDownHierarchy() {
+    BlockConfiguration inherited = BlockConfiguration.defaultConfiguration();
+    for (BlockConfiguration level : this.levels) {
+      inherited = BlockConfiguration.merge(inherited.forChild(), level);
+    }
+
+    return inherited;
+  }
+}
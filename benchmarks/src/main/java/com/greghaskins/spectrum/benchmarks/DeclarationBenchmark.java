@@ -0,0 +1,38 @@
+package com.greghaskins.spectrum.benchmarks;
+
+import com.greghaskins.spectrum.internal.Suite;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Declaring a tree with {@code describe} and {@code it}, including freezing it at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DeclarationBenchmark {
+  @Param({"4", "16"})
+  public int width;
+
+  @Param({"1", "3"})
+  public int depth;
+
+  @Benchmark
+  public Suite declareTree() {
+    return Trees.declare(Trees.tree(this.width, this.depth));
+  }
+}
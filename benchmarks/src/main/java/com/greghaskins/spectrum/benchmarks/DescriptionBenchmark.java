@@ -0,0 +1,57 @@
+package com.greghaskins.spectrum.benchmarks;
+
+import com.greghaskins.spectrum.internal.Suite;
+
+import org.junit.runner.Description;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answering the questions JUnit asks of a declared tree over and over.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DescriptionBenchmark {
+  @Param({"4", "16"})
+  public int width;
+
+  @Param({"1", "3"})
+  public int depth;
+
+  private Suite root;
+
+  @Setup
+  public void declareTree() {
+    this.root = Trees.declare(Trees.tree(this.width, this.depth));
+  }
+
+  @Benchmark
+  public Description getDescription() {
+    return this.root.getDescription();
+  }
+
+  @Benchmark
+  public int testCount() {
+    return this.root.testCount();
+  }
+
+  @Benchmark
+  public boolean isEffectivelyIgnored() {
+    return this.root.isEffectivelyIgnored();
+  }
+}
@@ -0,0 +1,109 @@
+package com.greghaskins.spectrum.benchmarks;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.internal.hooks.AfterHook.after;
+import static com.greghaskins.spectrum.internal.hooks.BeforeHook.before;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.Suite;
+import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookChain;
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
+import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
+import com.greghaskins.spectrum.internal.hooks.Hooks;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running blocks inside hooks, where there are {@code width} hooks at each of {@code depth}
+ * levels of the hierarchy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HooksBenchmark {
+  @Param({"1", "4"})
+  public int width;
+
+  @Param({"1", "3"})
+  public int depth;
+
+  private final Description description = Description.createTestDescription("benchmark", "spec");
+  private final RunReporting<Description, Failure> reporting = Trees.silentReporting();
+
+  private Hooks hooks;
+  private HookChain chain;
+  private Suite tree;
+  private Block block;
+
+  @Setup
+  public void setUp(final Blackhole blackhole) {
+    this.block = () -> blackhole.consume(this);
+    this.hooks = new Hooks();
+    for (int level = 0; level < this.depth; level++) {
+      for (int index = 0; index < this.width; index++) {
+        this.hooks.add(new HookContext(hookFor(index, blackhole), level, AppliesTo.ATOMIC_ONLY,
+            Precedence.LOCAL));
+      }
+    }
+    this.chain = this.hooks.sorted().compile();
+
+    this.tree = Trees.declare(Trees.tree(1, this.depth, () -> {
+      for (int index = 0; index < this.width; index++) {
+        beforeEach(() -> blackhole.consume(this));
+        afterEach(() -> blackhole.consume(this));
+      }
+    }));
+  }
+
+  @Benchmark
+  public void runAround() {
+    this.hooks.sorted().runAround(this.description, this.reporting, this.block);
+  }
+
+  @Benchmark
+  public void runAroundCompiled() {
+    this.chain.runAround(this.description, this.reporting, this.block);
+  }
+
+  @Benchmark
+  public void runTreeWithHooks() {
+    this.tree.run(this.reporting);
+  }
+
+  private Hook hookFor(final int index, final Blackhole blackhole) {
+    final Block consume = () -> blackhole.consume(index);
+    switch (index % 3) {
+      case 0:
+        return before(consume);
+      case 1:
+        return after(consume);
+      default:
+        return (description, reporting, inner) -> {
+          blackhole.consume(description);
+          inner.run();
+        };
+    }
+  }
+}
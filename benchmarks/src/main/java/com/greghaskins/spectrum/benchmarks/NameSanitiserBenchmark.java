@@ -0,0 +1,47 @@
+package com.greghaskins.spectrum.benchmarks;
+
+import com.greghaskins.spectrum.internal.NameSanitiser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sanitising the names in one suite, where {@code width} different names are each repeated
+ * {@code 10 ^ depth} times, as a scenario outline's examples can be.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NameSanitiserBenchmark {
+  @Param({"1", "100"})
+  public int width;
+
+  @Param({"1", "3"})
+  public int depth;
+
+  @Benchmark
+  public void sanitiseSuiteOfNames(final Blackhole blackhole) {
+    final NameSanitiser sanitiser = new NameSanitiser();
+    final int repeats = (int) Math.pow(10, this.depth);
+    for (int name = 0; name < this.width; name++) {
+      final String base = "Example (" + name + ") of a.generated name";
+      for (int repeat = 0; repeat < repeats; repeat++) {
+        blackhole.consume(sanitiser.sanitise(base));
+      }
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.greghaskins.spectrum.benchmarks;
+
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reporting a run of {@code width} specs, where each failure is reported again by each of
+ * {@code depth} hooks around it and must be de-duplicated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RunNotifierReportingBenchmark {
+  @Param({"100", "1000"})
+  public int width;
+
+  @Param({"1", "3"})
+  public int depth;
+
+  private Description[] descriptions;
+  private Failure[] failures;
+
+  @Setup
+  public void setUp() {
+    this.descriptions = new Description[this.width];
+    this.failures = new Failure[this.width];
+    for (int spec = 0; spec < this.width; spec++) {
+      this.descriptions[spec] = Description.createTestDescription("benchmark", "spec " + spec);
+      this.failures[spec] =
+          new Failure(this.descriptions[spec], new AssertionError("failure " + spec));
+    }
+  }
+
+  @Benchmark
+  public void reportRun() {
+    final RunReporting<Description, Failure> reporting = Trees.silentReporting();
+    for (int spec = 0; spec < this.width; spec++) {
+      reporting.fireTestStarted(this.descriptions[spec]);
+      if (spec % 2 == 0) {
+        for (int report = 0; report <= this.depth; report++) {
+          reporting.fireTestFailure(this.failures[spec]);
+        }
+      }
+      reporting.fireTestFinished(this.descriptions[spec]);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.greghaskins.spectrum.benchmarks;
+
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.example;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.feature;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.given;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.scenarioOutline;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.then;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.when;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.withExamples;
+
+import com.greghaskins.spectrum.ParameterizedBlock.OneArgBlock;
+import com.greghaskins.spectrum.dsl.gherkin.Examples;
+import com.greghaskins.spectrum.dsl.gherkin.TableRow;
+import com.greghaskins.spectrum.internal.Suite;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expanding a scenario outline with {@code width} examples inside {@code depth} nested features.
+ * Every example has the same value, so every expanded name needs de-duplicating.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScenarioOutlineBenchmark {
+  @Param({"10", "1000"})
+  public int width;
+
+  @Param({"1", "3"})
+  public int depth;
+
+  private Examples<OneArgBlock<String>> examples;
+
+  @Setup
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void setUp() {
+    final TableRow<OneArgBlock<String>>[] rows = new TableRow[this.width];
+    for (int row = 0; row < this.width; row++) {
+      rows[row] = example("same value");
+    }
+    this.examples = withExamples(rows);
+  }
+
+  @Benchmark
+  public Suite expandScenarioOutline() {
+    return Trees.declare(() -> declareFeatures(this.depth));
+  }
+
+  private void declareFeatures(final int remainingDepth) {
+    if (remainingDepth == 0) {
+      scenarioOutline("an outline", (value) -> {
+        given("a value " + value, () -> {
+        });
+        when("it is used", () -> {
+        });
+        then("it works", () -> {
+        });
+      }, this.examples);
+
+      return;
+    }
+
+    feature("feature at depth " + remainingDepth, () -> declareFeatures(remainingDepth - 1));
+  }
+}
@@ -0,0 +1,68 @@
+package com.greghaskins.spectrum.benchmarks;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.Suite;
+import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+
+/**
+ * Builds the test trees that the benchmarks work on.
+ */
+final class Trees {
+  private Trees() {}
+
+  /**
+   * A tree with {@code width} suites at each level, {@code depth} levels deep, where each of the
+   * deepest suites holds {@code width} specs. There are {@code width ^ (depth + 1)} specs.
+   * @param width children of each suite
+   * @param depth levels of suites
+   * @param eachSuite declared at the start of every suite, such as hooks
+   * @return the block which declares the tree
+   */
+  static Block tree(final int width, final int depth, final Block eachSuite) {
+    return () -> {
+      eachSuite.run();
+      for (int child = 0; child < width; child++) {
+        if (depth == 0) {
+          it("spec " + child, () -> {
+          });
+        } else {
+          describe("suite " + child, tree(width, depth - 1, eachSuite));
+        }
+      }
+    };
+  }
+
+  static Block tree(final int width, final int depth) {
+    return tree(width, depth, () -> {
+    });
+  }
+
+  /**
+   * Declare a root suite, as the runner does for a test class.
+   * @param definition the body of the test class
+   * @return the declared, frozen, root suite
+   */
+  static Suite declare(final Block definition) {
+    final Suite root = Suite.rootSuite(Description.createSuiteDescription("benchmark"));
+    DeclarationState.instance().beginDeclaration(root, definition);
+
+    return root;
+  }
+
+  /**
+   * Reporting to a notifier with no listeners, so only Spectrum's own work is measured.
+   * @return reporting that goes nowhere
+   */
+  static RunReporting<Description, Failure> silentReporting() {
+    return new RunNotifierReporting(new RunNotifier());
+  }
+}
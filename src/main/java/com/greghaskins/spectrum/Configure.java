@@ -3,11 +3,15 @@ package com.greghaskins.spectrum;
 import com.greghaskins.spectrum.internal.DeclarationState;
 import com.greghaskins.spectrum.internal.configuration.BlockFocused;
 import com.greghaskins.spectrum.internal.configuration.BlockIgnore;
+import com.greghaskins.spectrum.internal.configuration.BlockParallel;
 import com.greghaskins.spectrum.internal.configuration.BlockTagging;
 import com.greghaskins.spectrum.internal.configuration.BlockTimeout;
 import com.greghaskins.spectrum.internal.configuration.ConfiguredBlock;
 import com.greghaskins.spectrum.internal.configuration.ExcludeTags;
 import com.greghaskins.spectrum.internal.configuration.IncludeTags;
+import com.greghaskins.spectrum.internal.hooks.FixtureHook;
+import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
+import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
 import com.greghaskins.spectrum.internal.junit.Rules;
 
 import java.time.Duration;
@@ -18,6 +22,19 @@ public interface Configure {
 
   String EXCLUDE_TAGS_PROPERTY = "spectrum.exclude.tags";
   String INCLUDE_TAGS_PROPERTY = "spectrum.include.tags";
+  String PARALLEL_PROPERTY = "spectrum.parallel";
+  String EXECUTOR_PROPERTY = "spectrum.executor";
+  String TIMING_FILE_PROPERTY = "spectrum.timing.file";
+  String LAZY_DECLARATION_PROPERTY = "spectrum.lazy.declaration";
+  String HOOK_PROFILE_PROPERTY = "spectrum.profile.hooks";
+  String RESOURCE_PROFILE_PROPERTY = "spectrum.profile.resources";
+  String SAMPLE_SLOW_TESTS_PROPERTY = "spectrum.sample.slow.tests";
+  String LEAK_DETECTION_PROPERTY = "spectrum.detect.leaks";
+  String NDJSON_RESULTS_PROPERTY = "spectrum.results.ndjson";
+  String XML_RESULTS_DIRECTORY_PROPERTY = "spectrum.results.xml.dir";
+  String ASYNC_REPORTING_PROPERTY = "spectrum.reporting.async";
+
+  Duration DEFAULT_FIXTURE_IDLE_TIME = Duration.ofSeconds(10);
 
   /**
    * Surround a {@link Block} with the {@code with} statement to add
@@ -34,6 +51,7 @@ public interface Configure {
    * @see #focus()
    * @see #tags(String...)
    * @see #timeout(Duration)
+   * @see #parallel()
    */
   static Block with(final BlockConfigurationChain configuration, final Block block) {
     return ConfiguredBlock.with(configuration.getBlockConfiguration(), block);
@@ -109,6 +127,19 @@ public interface Configure {
     return new BlockConfigurationChain().with(new BlockTimeout(timeout));
   }
 
+  /**
+   * Run the children of the suite concurrently, from this level down. Hooks that run once for
+   * the suite, like {@code beforeAll} and {@code afterAll}, still run once around the whole
+   * group. Specs that run in parallel must not share mutable state. Can also be switched on for
+   * every suite by setting the {@link #PARALLEL_PROPERTY} system property to {@code true}. The
+   * {@link #EXECUTOR_PROPERTY} system property chooses the threads the children run on - see
+   * {@link com.greghaskins.spectrum.internal.execution.SpecExecutors#fromSystemProperty()}.
+   * @return a chainable configuration that will run the children of the suite in parallel
+   */
+  static BlockConfigurationChain parallel() {
+    return new BlockConfigurationChain().with(new BlockParallel());
+  }
+
   /**
    * Filter which tests in the current suite will run.
    *
@@ -154,4 +185,72 @@ public interface Configure {
   static <T> Supplier<T> junitMixin(final Class<T> classWithRules) {
     return Rules.applyRules(classWithRules, DeclarationState.instance()::addHook);
   }
+
+  /**
+   * Uses the given class as a mix-in for JUnit rules, like {@link #junitMixin(Class)}, but
+   * creates one object per thread and reuses it for every spec run on that thread, rather than
+   * creating one per spec. The rules are still applied for each spec, so rules which set up
+   * their state when applied, such as Mockito's, start each spec afresh. The objects are dropped
+   * when the suite finishes. On virtual threads, which run one spec each, nothing is reused.
+   *
+   * @param classWithRules Class to create and apply rules to for each spec.
+   * @param <T>            type of the object
+   * @return a supplier of the rules object for the current thread
+   * @see #pooledJunitMixin(Class, ThrowingConsumer)
+   */
+  static <T> Supplier<T> pooledJunitMixin(final Class<T> classWithRules) {
+    return pooledJunitMixin(classWithRules, object -> {
+    });
+  }
+
+  /**
+   * Uses the given class as a mix-in for JUnit rules, creating one object per thread and
+   * reusing it for every spec run on that thread. Before an object is reused, it is passed to
+   * {@code reset}, which should put back anything that a spec could have changed.
+   *
+   * @param classWithRules Class to create and apply rules to for each spec.
+   * @param reset          what to do to an object before it is used by another spec
+   * @param <T>            type of the object
+   * @return a supplier of the rules object for the current thread
+   */
+  static <T> Supplier<T> pooledJunitMixin(final Class<T> classWithRules,
+      final ThrowingConsumer<T> reset) {
+    return Rules.applyPooledRules(classWithRules, reset, DeclarationState.instance()::addHook);
+  }
+
+  /**
+   * Use a fixture which is shared by every suite, in every test class, that asks for the same
+   * key. It is built the first time a spec uses it, and closed, if it is {@link AutoCloseable},
+   * once no suite has used it for {@link #DEFAULT_FIXTURE_IDLE_TIME}, or when the JVM shuts down.
+   *
+   * @param key identifies the fixture across the JVM
+   * @param supplier builds the fixture, if no other suite has already
+   * @param <T> type of the fixture
+   * @return a supplier of the fixture, for the specs of the current suite
+   * @see #fixture(Object, Duration, ThrowingSupplier)
+   */
+  static <T> Supplier<T> fixture(final Object key, final ThrowingSupplier<T> supplier) {
+    return fixture(key, DEFAULT_FIXTURE_IDLE_TIME, supplier);
+  }
+
+  /**
+   * Use a fixture which is shared by every suite, in every test class, that asks for the same
+   * key. The fixture counts the suites using it, and is closed, if it is {@link AutoCloseable},
+   * once the last of them has finished and it has been idle for the given time. The supplier
+   * and idle time of the first suite to ask for the key are the ones that apply.
+   *
+   * @param key identifies the fixture across the JVM
+   * @param idleTime how long to keep the fixture after the last suite using it finishes - zero
+   *        closes it straight away
+   * @param supplier builds the fixture, if no other suite has already
+   * @param <T> type of the fixture
+   * @return a supplier of the fixture, for the specs of the current suite
+   */
+  static <T> Supplier<T> fixture(final Object key, final Duration idleTime,
+      final ThrowingSupplier<T> supplier) {
+    final FixtureHook<T> fixtureHook = new FixtureHook<>(key, supplier, idleTime);
+    DeclarationState.instance().addHook(fixtureHook, AppliesTo.ONCE, Precedence.OUTER);
+
+    return fixtureHook;
+  }
 }
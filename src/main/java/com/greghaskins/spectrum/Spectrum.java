@@ -2,13 +2,21 @@ package com.greghaskins.spectrum;
 
 import com.greghaskins.spectrum.dsl.specification.Specification;
 import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.RunReporting;
 import com.greghaskins.spectrum.internal.Suite;
 import com.greghaskins.spectrum.internal.blocks.ConstructorBlock;
 import com.greghaskins.spectrum.internal.junit.Rules;
 import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
+import com.greghaskins.spectrum.internal.reporting.RunReportingDecorators;
 
 import org.junit.runner.Description;
 import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sortable;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 
 import java.util.function.Supplier;
@@ -25,7 +33,7 @@ import java.util.function.Supplier;
  * @see Specification#afterEach
  * @see Specification#let
  */
-public final class Spectrum extends Runner {
+public final class Spectrum extends Runner implements Filterable, Sortable {
 
   /**
    * A generic code block with a {@link #run()} method to perform any action. Usually defined by a
@@ -256,9 +264,36 @@ public final class Spectrum extends Runner {
     return this.rootSuite.getDescription();
   }
 
+  /**
+   * Prune the tests which the filter does not select, so that running a single spec does not
+   * run the rest of the class around it.
+   * @param filter the JUnit filter, as given by a build tool or IDE
+   * @throws NoTestsRemainException if the filter selects nothing
+   */
+  @Override
+  public void filter(final Filter filter) throws NoTestsRemainException {
+    final boolean anythingLeft = this.rootSuite.filter(filter);
+    this.rootSuite.freeze();
+    if (!anythingLeft) {
+      throw new NoTestsRemainException();
+    }
+  }
+
+  @Override
+  public void sort(final Sorter sorter) {
+    this.rootSuite.sort(sorter);
+    this.rootSuite.freeze();
+  }
+
   @Override
   public void run(final RunNotifier notifier) {
-    this.rootSuite.run(new RunNotifierReporting(notifier));
+    final RunReporting<Description, Failure> reporting =
+        RunReportingDecorators.decorate(new RunNotifierReporting(notifier), getDescription());
+    try {
+      this.rootSuite.run(reporting);
+    } finally {
+      reporting.fireRunFinished();
+    }
   }
 
   /**
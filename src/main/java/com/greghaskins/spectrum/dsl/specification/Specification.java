@@ -12,10 +12,13 @@ import com.greghaskins.spectrum.ThrowingSupplier;
 import com.greghaskins.spectrum.internal.DeclarationState;
 import com.greghaskins.spectrum.internal.Suite;
 import com.greghaskins.spectrum.internal.blocks.IdempotentBlock;
+import com.greghaskins.spectrum.internal.blocks.PreparedBlock;
+import com.greghaskins.spectrum.internal.hooks.AsyncCleanup;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
 import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
 import com.greghaskins.spectrum.internal.hooks.LetHook;
+import com.greghaskins.spectrum.internal.hooks.SharedHook;
 
 import org.junit.AssumptionViolatedException;
 
@@ -35,7 +38,7 @@ public interface Specification {
         .getCurrentSuiteBeingDeclared()
         .addSuite(context);
     suite.applyConfigurationFromBlock(block);
-    DeclarationState.instance().beginDeclaration(suite, block);
+    DeclarationState.instance().declareWhenNeeded(suite, block);
   }
 
   /**
@@ -135,6 +138,29 @@ public interface Specification {
         Precedence.GUARANTEED_CLEAN_UP_LOCAL);
   }
 
+  /**
+   * Declare a {@link Block Block} to be run in the background after each spec in the current
+   * suite, without holding up the next spec.
+   *
+   * <p>
+   * Use this for clean up which is slow and which the next spec does not depend on, such as
+   * deleting temporary files. The clean up runs on a bounded pool of background threads, or on
+   * the spec's own thread when that pool is busy, so it may overlap the specs which follow, and
+   * other clean up. The suite waits for all of it before its {@link #afterAll(Block) afterAll}
+   * blocks. By then the specs have finished, so any failure is reported against the suite,
+   * naming the spec it followed. Values from
+   * {@link #let(ThrowingSupplier) let} have gone by the time the clean up runs.
+   * </p>
+   *
+   * @param block {@link Block Block} to run in the background after each spec
+   */
+  static void afterEachAsync(final Block block) {
+    final AsyncCleanup cleanup = new AsyncCleanup(block);
+    DeclarationState.instance().addHook(cleanup.afterEachSpec(), AppliesTo.ATOMIC_ONLY,
+        Precedence.GUARANTEED_CLEAN_UP_LOCAL);
+    DeclarationState.instance().addHook(cleanup.barrier(), AppliesTo.ONCE, Precedence.LOCAL);
+  }
+
   /**
    * Declare a {@link Block Block} to be run once before all the specs in the current suite begin.
    *
@@ -150,6 +176,27 @@ public interface Specification {
         Precedence.SET_UP);
   }
 
+  /**
+   * Declare a {@link Block} which prepares the current suite, like {@link #beforeAll(Block)
+   * beforeAll}, but which may run in the background ahead of the suite.
+   *
+   * <p>
+   * The block is started on a background thread while the sibling before the suite is still
+   * running, or when the suite starts if it is the first, and the suite waits for it to finish
+   * before its first spec. Use it for slow set up, such as starting a server or loading a large
+   * file, which does not depend on anything the earlier suites do. If it fails, every spec in
+   * the suite fails.
+   * </p>
+   *
+   * @param block {@link Block} to run once, in the background, before all specs in this suite
+   */
+  static void prepareAsync(final Block block) {
+    final PreparedBlock preparation = new PreparedBlock(block);
+    DeclarationState.instance().getCurrentSuiteBeingDeclared().addPreparation(preparation);
+    DeclarationState.instance().addHook(before(preparation), AppliesTo.ATOMIC_ONLY,
+        Precedence.SET_UP);
+  }
+
   /**
    * Declare a {@link Block} to be run once after all the specs in the current suite have run.
    *
@@ -185,6 +232,29 @@ public interface Specification {
     return letHook;
   }
 
+  /**
+   * A value that is shared by all the specs in the current suite, including its child suites.
+   *
+   * <p>
+   * The {@code supplier} is called at most once each time the suite runs, the first time any spec
+   * uses the value, even if the specs run in parallel. If it throws, every spec which uses the
+   * value fails with the same error. Once the suite has finished, the value is released, and
+   * closed if it is {@link AutoCloseable}. Treat the value as immutable, as any change to it will
+   * leak across specs.
+   * </p>
+   *
+   * @param <T>      The type of value
+   * @param supplier {@link ThrowingSupplier} function that either generates the value, or throws a
+   *                 {@link Throwable}
+   * @return supplier of the same value for every spec in the suite
+   */
+  static <T> Supplier<T> shared(final ThrowingSupplier<T> supplier) {
+    SharedHook<T> sharedHook = new SharedHook<>(supplier);
+    DeclarationState.instance().addHook(sharedHook, AppliesTo.ONCE, Precedence.OUTER);
+
+    return sharedHook;
+  }
+
   /**
    * Define a test context. Alias for {@link #describe}.
    *
@@ -6,6 +6,8 @@ import com.greghaskins.spectrum.internal.configuration.TaggingFilterCriteria;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Sorter;
 import org.junit.runner.notification.Failure;
 
 public interface Child {
@@ -26,6 +28,32 @@ public interface Child {
    */
   boolean isEffectivelyIgnored();
 
+  /**
+   * Called once the whole test tree has been declared, so the child can work out anything which
+   * will not change from now on, rather than on every request.
+   */
+  default void freeze() {}
+
+  /**
+   * Remove anything below this child which the filter does not select, so it is never run.
+   * @param filter the JUnit filter to apply
+   * @return true if there is anything left to run
+   */
+  default boolean filter(Filter filter) {
+    return filter.shouldRun(getDescription());
+  }
+
+  /**
+   * Put anything below this child into the order chosen by the sorter.
+   * @param sorter the JUnit sorter to apply
+   */
+  default void sort(Sorter sorter) {}
+
+  /**
+   * Start any work this child can do in the background before it runs, as it is next in line.
+   */
+  default void prepareInBackground() {}
+
   /**
    * Is this child something which runs as a test.
    * @return if the child is atomic
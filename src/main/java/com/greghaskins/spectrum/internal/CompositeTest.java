@@ -3,6 +3,8 @@ package com.greghaskins.spectrum.internal;
 import com.greghaskins.spectrum.internal.configuration.TaggingFilterCriteria;
 
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Sorter;
 import org.junit.runner.notification.Failure;
 
 /**
@@ -26,6 +28,22 @@ final class CompositeTest extends Suite {
     return true;
   }
 
+  @Override
+  public boolean filter(final Filter filter) {
+    // the steps only make sense together, so the test is kept whole if any of it is selected
+    return filter.shouldRun(getDescription());
+  }
+
+  @Override
+  public void sort(final Sorter sorter) {
+    // the steps must stay in the order they were declared
+  }
+
+  @Override
+  public void runChildrenInParallel() {
+    // the steps of a composite test depend on each other, so always run in order
+  }
+
   private static void abortOnFailureChildRunner(final Suite suite,
       final RunReporting<Description, Failure> reporting) {
     FailureDetectingRunDecorator<Description, Failure> decoratedReporting =
@@ -1,13 +1,18 @@
 package com.greghaskins.spectrum.internal;
 
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
 import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
 import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
+import com.greghaskins.spectrum.internal.reporting.HookProfile;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 
 public final class DeclarationState {
 
@@ -19,6 +24,22 @@ public final class DeclarationState {
   }
 
   private final Deque<Suite> suiteStack = new ArrayDeque<>();
+  private final Deque<List<DeferredDeclaration>> deferredStack = new ArrayDeque<>();
+  private boolean lazy;
+  private boolean profilingHooks;
+
+  /**
+   * A suite whose block has not been run yet.
+   */
+  private static final class DeferredDeclaration {
+    private final Suite suite;
+    private final Block definitionBlock;
+
+    private DeferredDeclaration(final Suite suite, final Block definitionBlock) {
+      this.suite = suite;
+      this.definitionBlock = definitionBlock;
+    }
+  }
 
   private DeclarationState() {}
 
@@ -31,26 +52,75 @@ public final class DeclarationState {
   }
 
   public void beginDeclaration(final Suite suite, final Block definitionBlock) {
+    if (suiteStack.isEmpty()) {
+      lazy = Boolean.getBoolean(Configure.LAZY_DECLARATION_PROPERTY);
+      profilingHooks = HookProfile.isEnabledBySystemProperty();
+    }
     suiteStack.push(suite);
+    deferredStack.push(new ArrayList<>());
 
     try {
       definitionBlock.run();
+      declareDeferred(suite, deferredStack.peek());
     } catch (final Throwable error) {
       suite.removeAllChildren();
       suite.addSpec("encountered an error", () -> {
         throw error;
       });
     }
+    deferredStack.pop();
     suiteStack.pop();
+
+    if (suite.isRoot()) {
+      suite.freeze();
+    }
+  }
+
+  /**
+   * Declare a child suite, which may be put off until the block of the current suite has
+   * finished. In lazy mode, set by {@link Configure#LAZY_DECLARATION_PROPERTY}, the block of a
+   * suite which turns out to be ignored, or out of focus, is never run.
+   * @param suite the child suite, already configured
+   * @param definitionBlock the block which declares its contents
+   */
+  public void declareWhenNeeded(final Suite suite, final Block definitionBlock) {
+    if (lazy && !suiteStack.isEmpty()) {
+      deferredStack.peek().add(new DeferredDeclaration(suite, definitionBlock));
+    } else {
+      beginDeclaration(suite, definitionBlock);
+    }
+  }
+
+  private void declareDeferred(final Suite parent, final List<DeferredDeclaration> deferred) {
+    // by now the parent knows which of its children are ignored or focused
+    for (DeferredDeclaration declaration : deferred) {
+      if (!declaration.suite.isIgnored() && !parent.isNotInFocus(declaration.suite)) {
+        beginDeclaration(declaration.suite, declaration.definitionBlock);
+      }
+    }
   }
 
   public void addHook(final Hook hook, final AppliesTo appliesTo, final Precedence precedence) {
-    addHook(new HookContext(hook, instance().getCurrentDepth(), appliesTo, precedence));
+    final Suite suite = getCurrentSuiteBeingDeclared();
+    final Hook declared =
+        profilingHooks ? HookProfile.instance().profile(hook, appliesTo, suitePath()) : hook;
+    addHook(new HookContext(declared, instance().getCurrentDepth(), appliesTo, precedence,
+        suite::getPath));
   }
 
   private void addHook(HookContext hook) {
     getCurrentSuiteBeingDeclared().addHook(hook);
   }
 
+  private List<String> suitePath() {
+    final List<String> path = new ArrayList<>(suiteStack.size());
+    final Iterator<Suite> outermostFirst = suiteStack.descendingIterator();
+    while (outermostFirst.hasNext()) {
+      path.add(outermostFirst.next().getName());
+    }
+
+    return path;
+  }
+
 
 }
@@ -3,13 +3,11 @@ package com.greghaskins.spectrum.internal;
 /**
  * A listener to detect test failure.
  */
-public class FailureDetectingRunDecorator<T, F> implements RunReporting<T, F> {
+public class FailureDetectingRunDecorator<T, F> extends RunReportingDecorator<T, F> {
   private boolean hasFailedYet = false;
 
-  private RunReporting<T, F> decoratee;
-
   public FailureDetectingRunDecorator(RunReporting<T, F> decoratee) {
-    this.decoratee = decoratee;
+    super(decoratee);
   }
 
   /**
@@ -22,28 +20,13 @@ public class FailureDetectingRunDecorator<T, F> implements RunReporting<T, F> {
 
   @Override
   public void fireTestFailure(F failure) {
-    decoratee.fireTestFailure(failure);
+    super.fireTestFailure(failure);
     hasFailedYet = true;
   }
 
-  @Override
-  public void fireTestIgnored(T description) {
-    decoratee.fireTestIgnored(description);
-  }
-
-  @Override
-  public void fireTestStarted(T description) {
-    decoratee.fireTestStarted(description);
-  }
-
-  @Override
-  public void fireTestFinished(T description) {
-    decoratee.fireTestFinished(description);
-  }
-
   @Override
   public void fireTestAssumptionFailed(F failure) {
-    decoratee.fireTestAssumptionFailed(failure);
+    super.fireTestAssumptionFailed(failure);
     hasFailedYet = true;
   }
 }
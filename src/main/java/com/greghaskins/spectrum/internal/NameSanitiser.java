@@ -1,6 +1,8 @@
 package com.greghaskins.spectrum.internal;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -9,6 +11,7 @@ import java.util.Set;
  */
 public class NameSanitiser {
   private Set<String> namesUsed = new HashSet<>();
+  private Map<String, Integer> nextSuffixes = new HashMap<>();
 
   /**
    * Deduplicate the given {@code name} and filter out any bad characters.
@@ -20,18 +23,47 @@ public class NameSanitiser {
    * @return a name unique to this sanitiser which has known bad characters removed.
    */
   public String sanitise(final String name) {
-    String sanitised = name.replaceAll("\\(", "[")
-        .replaceAll("\\)", "]");
-
-    sanitised = sanitised.replaceAll("\\.", "_");
+    final String sanitised = replaceBadCharacters(name);
+    if (this.namesUsed.add(sanitised)) {
+      return sanitised;
+    }
 
-    int suffix = 1;
-    String deDuplicated = sanitised;
-    while (this.namesUsed.contains(deDuplicated)) {
+    // carry on from the last suffix given to this name, so repeats do not probe from _1 each time
+    int suffix = this.nextSuffixes.getOrDefault(sanitised, 1);
+    String deDuplicated = sanitised + "_" + suffix++;
+    while (!this.namesUsed.add(deDuplicated)) {
       deDuplicated = sanitised + "_" + suffix++;
     }
-    this.namesUsed.add(deDuplicated);
+    this.nextSuffixes.put(sanitised, suffix);
 
     return deDuplicated;
   }
+
+  private static String replaceBadCharacters(final String name) {
+    char[] characters = null;
+    for (int index = 0; index < name.length(); index++) {
+      final char replacement = replacementFor(name.charAt(index));
+      if (replacement != 0) {
+        if (characters == null) {
+          characters = name.toCharArray();
+        }
+        characters[index] = replacement;
+      }
+    }
+
+    return characters == null ? name : new String(characters);
+  }
+
+  private static char replacementFor(final char character) {
+    switch (character) {
+      case '(':
+        return '[';
+      case ')':
+        return ']';
+      case '.':
+        return '_';
+      default:
+        return 0;
+    }
+  }
 }
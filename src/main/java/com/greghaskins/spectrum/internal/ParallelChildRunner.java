@@ -0,0 +1,32 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.internal.execution.SpecExecutor;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the children of a suite concurrently, each with its chain of hooks, as tasks on a
+ * {@link SpecExecutor}. The suite's own {@code ONCE} hooks still wrap the whole group, as this
+ * only replaces the loop over the children.
+ */
+final class ParallelChildRunner implements Suite.ChildRunner {
+
+  private final SpecExecutor executor;
+
+  ParallelChildRunner(final SpecExecutor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public void runChildren(final Suite suite, final RunReporting<Description, Failure> reporting) {
+    final List<Runnable> tasks = suite.children.stream()
+        .<Runnable>map(child -> () -> suite.runChild(child, reporting))
+        .collect(Collectors.toList());
+
+    this.executor.invokeAll(tasks);
+  }
+}
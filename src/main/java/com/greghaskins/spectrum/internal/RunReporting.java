@@ -38,4 +38,34 @@ public interface RunReporting<T, F> {
    * @param failure failure information
    */
   void fireTestAssumptionFailed(final F failure);
+
+  /**
+   * Marks a suite as having started, before any of its hooks or children run.
+   * @param description description of suite
+   */
+  default void fireSuiteStarted(final T description) {}
+
+  /**
+   * Marks a suite as finished, after all of its hooks and children.
+   * @param description description of suite
+   */
+  default void fireSuiteFinished(final T description) {}
+
+  /**
+   * Marks the start of the body of a test or suite - the spec's own block, or the children of
+   * a suite - once the hooks around it have run.
+   * @param description description of test or suite
+   */
+  default void fireBodyStarted(final T description) {}
+
+  /**
+   * Marks the end of the body of a test or suite, before the hooks which follow it.
+   * @param description description of test or suite
+   */
+  default void fireBodyFinished(final T description) {}
+
+  /**
+   * Marks the whole run as finished - call this once, after everything else.
+   */
+  default void fireRunFinished() {}
 }
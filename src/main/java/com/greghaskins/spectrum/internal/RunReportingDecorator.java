@@ -0,0 +1,62 @@
+package com.greghaskins.spectrum.internal;
+
+/**
+ * Base for a {@link RunReporting} which adds behaviour to another, passing every event on to it.
+ */
+public abstract class RunReportingDecorator<T, F> implements RunReporting<T, F> {
+  private final RunReporting<T, F> decoratee;
+
+  protected RunReportingDecorator(final RunReporting<T, F> decoratee) {
+    this.decoratee = decoratee;
+  }
+
+  @Override
+  public void fireTestIgnored(final T description) {
+    this.decoratee.fireTestIgnored(description);
+  }
+
+  @Override
+  public void fireTestStarted(final T description) {
+    this.decoratee.fireTestStarted(description);
+  }
+
+  @Override
+  public void fireTestFinished(final T description) {
+    this.decoratee.fireTestFinished(description);
+  }
+
+  @Override
+  public void fireTestFailure(final F failure) {
+    this.decoratee.fireTestFailure(failure);
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final F failure) {
+    this.decoratee.fireTestAssumptionFailed(failure);
+  }
+
+  @Override
+  public void fireSuiteStarted(final T description) {
+    this.decoratee.fireSuiteStarted(description);
+  }
+
+  @Override
+  public void fireSuiteFinished(final T description) {
+    this.decoratee.fireSuiteFinished(description);
+  }
+
+  @Override
+  public void fireBodyStarted(final T description) {
+    this.decoratee.fireBodyStarted(description);
+  }
+
+  @Override
+  public void fireBodyFinished(final T description) {
+    this.decoratee.fireBodyFinished(description);
+  }
+
+  @Override
+  public void fireRunFinished() {
+    this.decoratee.fireRunFinished();
+  }
+}
@@ -2,7 +2,7 @@ package com.greghaskins.spectrum.internal;
 
 
 import com.greghaskins.spectrum.Block;
-import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookChain;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
 import com.greghaskins.spectrum.internal.hooks.Hooks;
 import com.greghaskins.spectrum.internal.hooks.NonReportingHook;
@@ -17,6 +17,7 @@ final class Spec implements LeafChild {
   private final Parent parent;
   private boolean ignored = false;
   private Hooks leafHooks = new Hooks();
+  private HookChain leafHookChain;
 
   Spec(final Description description, final Block block, final Parent parent) {
     this.description = description;
@@ -38,7 +39,24 @@ final class Spec implements LeafChild {
     }
 
     // apply leaf hooks around the inner block
-    leafHooks.sorted().runAround(this.description, notifier, block);
+    if (this.leafHookChain == null) {
+      freeze();
+    }
+    this.leafHookChain.runAround(this.description, notifier, () -> runBody(notifier));
+  }
+
+  private void runBody(final RunReporting<Description, Failure> notifier) throws Throwable {
+    notifier.fireBodyStarted(this.description);
+    try {
+      this.block.run();
+    } finally {
+      notifier.fireBodyFinished(this.description);
+    }
+  }
+
+  @Override
+  public void freeze() {
+    this.leafHookChain = leafHooks.sorted().compile();
   }
 
   @Override
@@ -79,5 +97,6 @@ final class Spec implements LeafChild {
   public void addLeafHook(NonReportingHook leafHook, HookContext.Precedence precedence) {
     // hooks at this level are always at the same point in the hierarchy and applying to each child
     leafHooks.add(new HookContext(leafHook, 0, HookContext.AppliesTo.EACH_CHILD, precedence));
+    this.leafHookChain = null;
   }
 }
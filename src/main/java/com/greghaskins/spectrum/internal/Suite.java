@@ -3,14 +3,21 @@ package com.greghaskins.spectrum.internal;
 import static com.greghaskins.spectrum.internal.configuration.BlockConfiguration.merge;
 
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.blocks.PreparedBlock;
 import com.greghaskins.spectrum.internal.configuration.BlockConfiguration;
+import com.greghaskins.spectrum.internal.configuration.BlockParallel;
 import com.greghaskins.spectrum.internal.configuration.ConfiguredBlock;
 import com.greghaskins.spectrum.internal.configuration.TaggingFilterCriteria;
+import com.greghaskins.spectrum.internal.execution.SpecExecutors;
 import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookChain;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
 import com.greghaskins.spectrum.internal.hooks.Hooks;
+import com.greghaskins.spectrum.internal.reporting.TestEvents;
 
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Sorter;
 import org.junit.runner.notification.Failure;
 
 import java.util.ArrayList;
@@ -22,9 +29,10 @@ public class Suite implements Parent, Child {
   private Hooks hooks = new Hooks();
 
   protected final List<Child> children = new ArrayList<>();
+  private final List<PreparedBlock> preparations = new ArrayList<>();
   private final Set<Child> focusedChildren = new HashSet<>();
 
-  private final ChildRunner childRunner;
+  private ChildRunner childRunner;
 
   private final Description description;
   private final Parent parent;
@@ -33,6 +41,13 @@ public class Suite implements Parent, Child {
   private final TaggingFilterCriteria tagging;
   private BlockConfiguration configuration = BlockConfiguration.defaultConfiguration();
   private NameSanitiser nameSanitiser = new NameSanitiser();
+  private CompiledHooks compiledHooks;
+
+  // the state of the tree below this suite, worked out once declaration is complete
+  private boolean frozen;
+  private Description frozenDescription;
+  private int frozenTestCount;
+  private boolean frozenHasANonIgnoredChild;
 
   /**
    * The strategy for running the children within the suite.
@@ -43,8 +58,14 @@ public class Suite implements Parent, Child {
   }
 
   public static Suite rootSuite(final Description description) {
-    return new Suite(description, Parent.NONE, Suite::defaultChildRunner,
+    final Suite suite = new Suite(description, Parent.NONE, Suite::defaultChildRunner,
         new TaggingFilterCriteria());
+    if (BlockParallel.isEnabledBySystemProperty()) {
+      suite.configuration.add(new BlockParallel());
+      suite.configuration.applyTo(suite, suite.tagging);
+    }
+
+    return suite;
   }
 
   /**
@@ -118,15 +139,35 @@ public class Suite implements Parent, Child {
     return child;
   }
 
+  /**
+   * Run the children of this suite concurrently rather than one after another. Any
+   * {@code ONCE} hooks of the suite still wrap the whole group of children.
+   */
+  public void runChildrenInParallel() {
+    this.childRunner = new ParallelChildRunner(SpecExecutors.fromSystemProperty());
+  }
+
   public void applyConfigurationFromBlock(Block block) {
     this.configuration = merge(this.configuration, ConfiguredBlock.configurationFromBlock(block));
     this.configuration.applyTo(this, this.tagging);
   }
 
   private void addChild(final Child child) {
+    this.frozen = false;
     this.children.add(child);
   }
 
+  /**
+   * Adds a block which prepares the suite, and can be started in the background while the
+   * sibling before this suite is still running. The caller must also add a hook which runs the
+   * block, to wait for it before the first child.
+   *
+   * @param preparation the block to start early
+   */
+  public void addPreparation(final PreparedBlock preparation) {
+    this.preparations.add(preparation);
+  }
+
   /**
    * Adds a hook to be the first one executed before the block. This is the default. Hooks should be
    * executed in the order they are declared in the test.
@@ -137,12 +178,6 @@ public class Suite implements Parent, Child {
     this.hooks.add(hook);
   }
 
-  private Hooks getHooksFor(final Child child) {
-    Hooks allHooks = this.parent.getInheritableHooks().plus(this.hooks);
-
-    return child.isAtomic() ? allHooks.forAtomic() : allHooks.forNonAtomic();
-  }
-
   @Override
   public Hooks getInheritableHooks() {
     // only the atomic hooks can be used by the children of this suite,
@@ -195,8 +230,81 @@ public class Suite implements Parent, Child {
     return this.ignored;
   }
 
+  /**
+   * Work out the description, test count, ignore state and hook chains of the tree below this
+   * suite, so they can be answered without walking the tree again. This happens when the root
+   * suite finishes declaration, and must be repeated if the tree is changed afterwards.
+   */
+  @Override
+  public void freeze() {
+    this.frozen = false;
+    this.children.forEach(Child::freeze);
+    this.compiledHooks = new CompiledHooks(this);
+    this.frozenDescription = getDescription();
+    this.frozenTestCount = testCount();
+    this.frozenHasANonIgnoredChild = hasANonIgnoredChild();
+    this.frozen = true;
+  }
+
+  /**
+   * Prune the children which the filter does not select. A pruned child is gone from the tree,
+   * so neither it nor any of the hooks around it will run, and a suite with nothing left is
+   * pruned from its own parent, along with its {@code beforeAll} and {@code afterAll}.
+   * @param filter the JUnit filter to apply
+   * @return true if there is anything left to run
+   */
+  @Override
+  public boolean filter(final Filter filter) {
+    this.frozen = false;
+    this.children.removeIf(child -> !child.filter(filter));
+
+    return !this.children.isEmpty();
+  }
+
+  @Override
+  public void sort(final Sorter sorter) {
+    this.frozen = false;
+    this.children.forEach(child -> child.sort(sorter));
+    this.children.sort((first, second) -> sorter.compare(first.getDescription(),
+        second.getDescription()));
+  }
+
+  @Override
+  public void prepareInBackground() {
+    if (!isEffectivelyIgnored()) {
+      this.preparations.forEach(PreparedBlock::startInBackground);
+    }
+  }
+
+  /**
+   * The name of this suite alone, without describing its children.
+   * @return the display name
+   */
+  String getName() {
+    return this.description.getDisplayName();
+  }
+
+  /**
+   * The names of the suites from the root down to this one.
+   * @return the path of suites, separated by {@code " > "}
+   */
+  String getPath() {
+    if (this.parent instanceof Suite) {
+      return ((Suite) this.parent).getPath() + " > " + getName();
+    }
+
+    return getName();
+  }
+
+  boolean isRoot() {
+    return this.parent == Parent.NONE;
+  }
+
   @Override
   public void run(final RunReporting<Description, Failure> reporting) {
+    if (this.compiledHooks == null) {
+      this.compiledHooks = new CompiledHooks(this);
+    }
     if (testCount() == 0) {
       reporting.fireTestIgnored(this.description);
       runChildren(reporting);
@@ -209,8 +317,25 @@ public class Suite implements Parent, Child {
     if (isEffectivelyIgnored()) {
       runChildren(reporting);
     } else {
-      this.hooks.once().sorted()
-          .runAround(this.description, reporting, () -> runChildren(reporting));
+      reporting.fireSuiteStarted(this.description);
+      prepareInBackground();
+      final TestEvents.Span span = TestEvents.instance().suite(this.description);
+      try {
+        this.compiledHooks.once.runAround(this.description, reporting,
+            () -> runChildrenAsBody(reporting));
+      } finally {
+        span.end();
+        reporting.fireSuiteFinished(this.description);
+      }
+    }
+  }
+
+  private void runChildrenAsBody(final RunReporting<Description, Failure> reporting) {
+    reporting.fireBodyStarted(this.description);
+    try {
+      runChildren(reporting);
+    } finally {
+      reporting.fireBodyFinished(this.description);
     }
   }
 
@@ -222,50 +347,102 @@ public class Suite implements Parent, Child {
     if (child.isEffectivelyIgnored()) {
       // running the child will make it act ignored
       child.run(reporting);
-    } else if (childIsNotInFocus(child)) {
+    } else if (isNotInFocus(child)) {
       reporting.fireTestIgnored(child.getDescription());
+    } else if (child.isLeaf()) {
+      final TestEvents.Span span = TestEvents.instance().spec(child.getDescription());
+      try {
+        runChildInHooks(child, reporting);
+      } finally {
+        span.end();
+      }
     } else {
-      addLeafHook(this.hooks.forThisLevel().sorted(), child).runAround(child.getDescription(), reporting,
-          () -> runChildWithHooks(child, reporting));
+      runChildInHooks(child, reporting);
     }
   }
 
-  private boolean childIsNotInFocus(Child child) {
+  private void runChildInHooks(final Child child,
+      final RunReporting<Description, Failure> reporting) {
+    this.compiledHooks.eachChild(child).runAround(child.getDescription(), reporting,
+        () -> runChildWithHooks(child, reporting));
+  }
+
+  boolean isNotInFocus(Child child) {
     return !this.focusedChildren.isEmpty() && !this.focusedChildren.contains(child);
   }
 
   private void runChildWithHooks(final Child child, final RunReporting<Description, Failure> reporting) {
-    getHooksFor(child).sorted().runAround(child.getDescription(), reporting,
+    this.compiledHooks.forChild(child).runAround(child.getDescription(), reporting,
         () -> child.run(reporting));
-
   }
 
-  private Hooks addLeafHook(final Hooks hooks, final Child child) {
-    if (child.isLeaf()) {
-      hooks.add(testNotifier());
+  /**
+   * The hooks of the suite, linked into chains once per run rather than being filtered,
+   * sorted and linked again for every child.
+   */
+  private static final class CompiledHooks {
+    private final HookChain once;
+    private final HookChain eachChild;
+    private final HookChain eachLeafChild;
+    private final HookChain atomicChild;
+    private final HookChain nonAtomicChild;
+
+    private CompiledHooks(final Suite suite) {
+      final Hooks allHooks = suite.parent.getInheritableHooks().plus(suite.hooks);
+
+      this.once = suite.hooks.once().sorted().compile();
+      this.eachChild = suite.hooks.forThisLevel().sorted().compile();
+      this.eachLeafChild = suite.hooks.forThisLevel().plus(singleHook(testNotifier())).sorted()
+          .compile();
+      this.atomicChild = allHooks.forAtomic().sorted().compile();
+      this.nonAtomicChild = allHooks.forNonAtomic().sorted().compile();
     }
 
-    return hooks;
+    private HookChain eachChild(final Child child) {
+      return child.isLeaf() ? this.eachLeafChild : this.eachChild;
+    }
+
+    private HookChain forChild(final Child child) {
+      return child.isAtomic() ? this.atomicChild : this.nonAtomicChild;
+    }
+
+    private static Hooks singleHook(final HookContext hook) {
+      final Hooks hooks = new Hooks();
+      hooks.add(hook);
+
+      return hooks;
+    }
   }
 
-  private HookContext testNotifier() {
+  private static HookContext testNotifier() {
     return new HookContext(testNotificationHook(), 0, HookContext.AppliesTo.ONCE,
         HookContext.Precedence.ROOT);
   }
 
-  private Hook testNotificationHook() {
-    return (description, notifier, block) -> {
-      notifier.fireTestStarted(description);
-      try {
-        block.run();
-      } finally {
-        notifier.fireTestFinished(description);
-      }
-    };
+  private static Hook testNotificationHook() {
+    return Suite::runTest;
+  }
+
+  /**
+   * Run a test between its started and finished events. Stack samples of a slow test are taken
+   * from the frames within this one, so it is kept as a named method.
+   */
+  private static void runTest(final Description description,
+      final RunReporting<Description, Failure> notifier, final Block block) throws Throwable {
+    notifier.fireTestStarted(description);
+    try {
+      block.run();
+    } finally {
+      notifier.fireTestFinished(description);
+    }
   }
 
   @Override
   public Description getDescription() {
+    if (this.frozen) {
+      return this.frozenDescription;
+    }
+
     final Description copy = this.description.childlessCopy();
     this.children.forEach((child) -> copy.addChild(child.getDescription()));
 
@@ -274,16 +451,31 @@ public class Suite implements Parent, Child {
 
   @Override
   public int testCount() {
+    if (this.frozen) {
+      return this.frozenTestCount;
+    }
+
     return this.children.stream().mapToInt(Child::testCount).sum();
   }
 
   public void removeAllChildren() {
+    this.frozen = false;
     this.children.clear();
   }
 
   private static void defaultChildRunner(final Suite suite,
       final RunReporting<Description, Failure> reporting) {
-    suite.children.forEach((child) -> suite.runChild(child, reporting));
+    for (int index = 0; index < suite.children.size(); index++) {
+      // the next child can get ready while this one runs
+      suite.prepareChildInBackground(index + 1);
+      suite.runChild(suite.children.get(index), reporting);
+    }
+  }
+
+  private void prepareChildInBackground(final int index) {
+    if (index < this.children.size() && !isNotInFocus(this.children.get(index))) {
+      this.children.get(index).prepareInBackground();
+    }
   }
 
   private String sanitise(final String name) {
@@ -296,6 +488,12 @@ public class Suite implements Parent, Child {
   }
 
   private boolean hasANonIgnoredChild() {
+    if (this.frozen) {
+      // children can only be ignored after freezing by a composite test, which has already
+      // checked its own ignore state by then
+      return this.frozenHasANonIgnoredChild;
+    }
+
     return this.children.stream()
         .anyMatch(child -> !child.isEffectivelyIgnored());
   }
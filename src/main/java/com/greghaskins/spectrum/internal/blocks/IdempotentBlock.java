@@ -5,7 +5,7 @@ import com.greghaskins.spectrum.Block;
 public final class IdempotentBlock implements Block {
 
   private final Block block;
-  private Block result;
+  private volatile Block result;
 
   public IdempotentBlock(final Block block) {
     this.block = block;
@@ -14,7 +14,11 @@ public final class IdempotentBlock implements Block {
   @Override
   public void run() throws Throwable {
     if (this.result == null) {
-      this.result = runBlockOnce(this.block);
+      synchronized (this) {
+        if (this.result == null) {
+          this.result = runBlockOnce(this.block);
+        }
+      }
     }
     this.result.run();
   }
@@ -69,12 +69,24 @@ public interface NotifyingBlock {
       final Block block) throws Throwable {
     try {
       block.run();
-    } catch (final AssumptionViolatedException assumptionViolation) {
-      reporting.fireTestAssumptionFailed(new Failure(description, assumptionViolation));
-      throw assumptionViolation;
     } catch (final Throwable throwable) {
-      reporting.fireTestFailure(new Failure(description, throwable));
+      report(description, reporting, throwable);
       throw throwable;
     }
   }
+
+  /**
+   * Report an error as either an assumption failure or a test failure.
+   * @param description which test the error came from
+   * @param reporting object to inform of failure
+   * @param throwable the error
+   */
+  static void report(final Description description,
+      final RunReporting<Description, Failure> reporting, final Throwable throwable) {
+    if (throwable instanceof AssumptionViolatedException) {
+      reporting.fireTestAssumptionFailed(new Failure(description, throwable));
+    } else {
+      reporting.fireTestFailure(new Failure(description, throwable));
+    }
+  }
 }
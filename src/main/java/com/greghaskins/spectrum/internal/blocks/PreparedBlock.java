@@ -0,0 +1,55 @@
+package com.greghaskins.spectrum.internal.blocks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.execution.PreparationExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A block which is run at most once, and which can be started in the background ahead of the
+ * time it is needed. Running it waits for the background work to finish, or does the work on
+ * the calling thread if it was never started. Like {@link IdempotentBlock}, a failure is
+ * remembered and thrown again by every run.
+ */
+public final class PreparedBlock implements Block {
+
+  private final Block block;
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final CompletableFuture<Void> prepared = new CompletableFuture<>();
+
+  public PreparedBlock(final Block block) {
+    this.block = block;
+  }
+
+  /**
+   * Start the block in the background, unless it has already been started.
+   */
+  public void startInBackground() {
+    if (this.started.compareAndSet(false, true)) {
+      PreparationExecutor.execute(this::prepare);
+    }
+  }
+
+  @Override
+  public void run() throws Throwable {
+    if (this.started.compareAndSet(false, true)) {
+      prepare();
+    }
+    try {
+      this.prepared.get();
+    } catch (final ExecutionException failed) {
+      throw failed.getCause();
+    }
+  }
+
+  private void prepare() {
+    try {
+      this.block.run();
+      this.prepared.complete(null);
+    } catch (final Throwable error) {
+      this.prepared.completeExceptionally(error);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.Suite;
+
+/**
+ * Marks a suite as running its children concurrently. Inherited by child suites, so
+ * everything below the configured block runs in parallel.
+ */
+public class BlockParallel implements BlockConfigurable<BlockParallel> {
+
+  /**
+   * Is parallel running switched on for every suite via {@link Configure#PARALLEL_PROPERTY}.
+   * @return true if the system property is set to true
+   */
+  public static boolean isEnabledBySystemProperty() {
+    return Boolean.getBoolean(Configure.PARALLEL_PROPERTY);
+  }
+
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(Child child, TaggingFilterCriteria state) {
+    if (child instanceof Suite) {
+      ((Suite) child).runChildrenInParallel();
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockParallel> merge(BlockConfigurable<?> other) {
+    // parallel anywhere above means parallel here
+
+    return this;
+  }
+}
@@ -0,0 +1,62 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import com.greghaskins.spectrum.Block;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of daemon threads for clean up which specs hand off rather than wait for. When
+ * the pool and its queue are full, the clean up is run by the spec's own thread instead, so a
+ * run which makes clean up faster than it can be done is slowed down rather than left with an
+ * ever growing backlog.
+ */
+public final class CleanupExecutor {
+
+  private static final int THREADS = Runtime.getRuntime().availableProcessors();
+  private static final int QUEUED_TASKS_PER_THREAD = 16;
+
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  private static final ThreadPoolExecutor POOL = newPool();
+
+  private CleanupExecutor() {}
+
+  /**
+   * Submit clean up to the pool, or run it on this thread if the pool is full.
+   * @param task the clean up
+   * @return the outcome of the task, which holds any error it throws
+   */
+  public static Future<Void> submit(final Block task) {
+    final CompletableFuture<Void> outcome = new CompletableFuture<>();
+    POOL.execute(() -> {
+      try {
+        task.run();
+        outcome.complete(null);
+      } catch (final Throwable error) {
+        outcome.completeExceptionally(error);
+      }
+    });
+
+    return outcome;
+  }
+
+  private static ThreadPoolExecutor newPool() {
+    final ThreadPoolExecutor pool = new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(THREADS * QUEUED_TASKS_PER_THREAD), CleanupExecutor::newThread,
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    pool.allowCoreThreadTimeOut(true);
+
+    return pool;
+  }
+
+  private static Thread newThread(final Runnable task) {
+    final Thread thread = new Thread(task, "spectrum-cleanup-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+
+    return thread;
+  }
+}
@@ -0,0 +1,52 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+/**
+ * Runs tasks on a shared {@link ForkJoinPool} of platform threads, one per processor. Nested
+ * calls fork into the same pool rather than blocking a thread each.
+ */
+public final class PlatformPoolSpecExecutor implements SpecExecutor {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(
+      Runtime.getRuntime().availableProcessors(), PlatformPoolSpecExecutor::newWorker, null,
+      false);
+
+  @Override
+  public void invokeAll(final List<Runnable> tasks) {
+    final List<RecursiveAction> actions = tasks.stream()
+        .map(PlatformPoolSpecExecutor::action)
+        .collect(Collectors.toList());
+
+    final RecursiveAction allTasks = action(() -> ForkJoinTask.invokeAll(actions));
+    if (ForkJoinTask.getPool() == POOL) {
+      allTasks.invoke();
+    } else {
+      POOL.invoke(allTasks);
+    }
+  }
+
+  private static RecursiveAction action(final Runnable runnable) {
+    return new RecursiveAction() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected void compute() {
+        runnable.run();
+      }
+    };
+  }
+
+  private static ForkJoinWorkerThread newWorker(final ForkJoinPool pool) {
+    final ForkJoinWorkerThread worker =
+        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+    worker.setName("spectrum-parallel-" + worker.getPoolIndex());
+
+    return worker;
+  }
+}
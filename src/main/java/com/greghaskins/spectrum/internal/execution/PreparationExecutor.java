@@ -0,0 +1,32 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Daemon threads for the work a suite can do in the background, ahead of its first spec. Each
+ * piece of work gets a thread, as it is expected to be slow and to spend its time waiting on
+ * I/O rather than the processor.
+ */
+public final class PreparationExecutor {
+
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  private static final ExecutorService THREADS = Executors.newCachedThreadPool(task -> {
+    final Thread thread =
+        new Thread(task, "spectrum-prepare-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+
+    return thread;
+  });
+
+  private PreparationExecutor() {}
+
+  /**
+   * Start a task in the background.
+   * @param task to start
+   */
+  public static void execute(final Runnable task) {
+    THREADS.execute(task);
+  }
+}
@@ -0,0 +1,27 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The executors already chosen by {@link SpecExecutors#fromSystemProperty()}, by the value of
+ * the property, so that the service loader and reflection are not used again for every parallel
+ * suite.
+ */
+final class ResolvedSpecExecutors {
+  private static final Map<String, SpecExecutor> BY_PROPERTY = new ConcurrentHashMap<>();
+
+  private ResolvedSpecExecutors() {}
+
+  /**
+   * Get the executor for a value of the property, resolving it the first time it is asked for.
+   * An executor which cannot be resolved is not remembered, so the error is reported every time.
+   * @param property value of the property, empty when it is not set
+   * @param resolve finds the executor for a value of the property
+   * @return the executor
+   */
+  static SpecExecutor get(final String property, final Function<String, SpecExecutor> resolve) {
+    return BY_PROPERTY.computeIfAbsent(property, resolve);
+  }
+}
@@ -0,0 +1,30 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import com.greghaskins.spectrum.Configure;
+
+import java.util.List;
+
+/**
+ * Service provider interface for the threads that run the children of a parallel suite. Each
+ * task runs one child - a spec or suite - along with its whole chain of hooks.
+ *
+ * <p>Spectrum ships {@link PlatformPoolSpecExecutor} and {@link VirtualThreadSpecExecutor}.
+ * Choose one with the {@link Configure#EXECUTOR_PROPERTY} system property, or provide your own
+ * implementation, either by naming its class in that property, or by registering it in
+ * {@code META-INF/services/com.greghaskins.spectrum.internal.execution.SpecExecutor}.
+ * Implementations must have a public no-argument constructor. One instance is shared by every
+ * parallel suite which uses it.
+ *
+ * @see SpecExecutors
+ */
+@FunctionalInterface
+public interface SpecExecutor {
+  /**
+   * Run the tasks, possibly concurrently, returning once every one of them has finished.
+   * Tasks may call this again from inside, when parallel suites are nested, so an implementation
+   * must not deadlock when all of its threads are waiting on tasks of their own.
+   *
+   * @param tasks the work to do
+   */
+  void invokeAll(List<Runnable> tasks);
+}
@@ -0,0 +1,71 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import com.greghaskins.spectrum.Configure;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Chooses the {@link SpecExecutor} for parallel suites.
+ */
+public interface SpecExecutors {
+
+  String PLATFORM = "platform";
+  String VIRTUAL = "virtual";
+
+  /**
+   * Find the executor selected by the {@link Configure#EXECUTOR_PROPERTY} system property. This
+   * can be {@value #PLATFORM}, {@value #VIRTUAL} or the class name of an implementation. Without
+   * the property, the first implementation registered with {@link ServiceLoader} is used, or the
+   * platform pool if there is none. Asking for virtual threads on a JVM without them gives the
+   * platform pool. The executor is only looked up once for each value of the property, and is
+   * then shared by every parallel suite.
+   *
+   * @return the executor to use
+   */
+  static SpecExecutor fromSystemProperty() {
+    final String property =
+        Optional.ofNullable(System.getProperty(Configure.EXECUTOR_PROPERTY)).orElse("");
+
+    return ResolvedSpecExecutors.get(property,
+        name -> name.isEmpty() ? fromServiceLoader() : named(name));
+  }
+
+  /**
+   * Find an executor by name.
+   * @param name {@value #PLATFORM}, {@value #VIRTUAL} or the class name of an implementation
+   * @return the executor
+   */
+  static SpecExecutor named(final String name) {
+    switch (name) {
+      case PLATFORM:
+        return new PlatformPoolSpecExecutor();
+      case VIRTUAL:
+        return VirtualThreadSpecExecutor.isSupported() ? new VirtualThreadSpecExecutor()
+            : new PlatformPoolSpecExecutor();
+      default:
+        return instanceOf(name);
+    }
+  }
+
+  static SpecExecutor fromServiceLoader() {
+    final Iterator<SpecExecutor> providers = ServiceLoader.load(SpecExecutor.class).iterator();
+
+    return providers.hasNext() ? providers.next() : new PlatformPoolSpecExecutor();
+  }
+
+  static SpecExecutor instanceOf(final String className) {
+    try {
+      return Class.forName(className, true, Thread.currentThread().getContextClassLoader())
+          .asSubclass(SpecExecutor.class)
+          .getConstructor()
+          .newInstance();
+    } catch (final ReflectiveOperationException | ClassCastException error) {
+      throw new IllegalArgumentException(
+          "Cannot use " + className + " from " + Configure.EXECUTOR_PROPERTY
+              + " as a SpecExecutor",
+          error);
+    }
+  }
+}
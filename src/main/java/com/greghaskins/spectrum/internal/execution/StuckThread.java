@@ -0,0 +1,124 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import org.junit.runners.model.TestTimedOutException;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What a thread was doing when its time ran out - its stack, and the chain of threads holding
+ * the locks it was waiting for. This is captured before the thread is interrupted, so it shows
+ * where the thread was stuck rather than how it reacted.
+ */
+final class StuckThread {
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  private final StackTraceElement[] stack;
+  private final List<Exception> blockedBy;
+  private final boolean deadlocked;
+
+  private StuckThread(final StackTraceElement[] stack, final List<Exception> blockedBy,
+      final boolean deadlocked) {
+    this.stack = stack;
+    this.blockedBy = blockedBy;
+    this.deadlocked = deadlocked;
+  }
+
+  /**
+   * Capture what a thread is doing now.
+   * @param thread the thread which has run out of time
+   * @return what it was doing
+   */
+  static StuckThread capture(final Thread thread) {
+    final List<Exception> blockedBy = new ArrayList<>();
+    ThreadInfo info = threadInfo(thread.getId());
+    if (info == null) {
+      return new StuckThread(thread.getStackTrace(), blockedBy, false);
+    }
+
+    final StackTraceElement[] stack = info.getStackTrace();
+    final Set<Long> seen = new HashSet<>();
+    seen.add(info.getThreadId());
+    while (info.getLockOwnerId() != -1 && seen.add(info.getLockOwnerId())) {
+      final ThreadInfo owner = threadInfo(info.getLockOwnerId());
+      if (owner == null) {
+        break;
+      }
+      blockedBy.add(blockedOn(info, owner));
+      info = owner;
+    }
+    final boolean deadlocked = info.getLockOwnerId() != -1
+        && seen.contains(info.getLockOwnerId());
+    if (deadlocked) {
+      blockedBy.add(new Exception("Deadlock: \"" + info.getThreadName() + "\" is waiting for "
+          + info.getLockName() + " held by \"" + info.getLockOwnerName() + "\""));
+    }
+
+    return new StuckThread(stack, blockedBy, deadlocked);
+  }
+
+  /**
+   * Is the thread part of a deadlock, which an interrupt may not be able to break.
+   * @return true if the chain of lock holders leads back to a thread already in it
+   */
+  boolean isDeadlocked() {
+    return this.deadlocked;
+  }
+
+  /**
+   * Show the capture on the timeout - the stack of the stuck thread as its stack, and each
+   * thread it was waiting on as a suppressed exception.
+   * @param timedOut the failure of the thread which ran out of time
+   */
+  void attachTo(final TestTimedOutException timedOut) {
+    if (this.stack.length > 0) {
+      timedOut.setStackTrace(this.stack);
+    }
+    this.blockedBy.forEach(timedOut::addSuppressed);
+  }
+
+  private static Exception blockedOn(final ThreadInfo waiting, final ThreadInfo owner) {
+    final StringBuilder message = new StringBuilder()
+        .append('"').append(waiting.getThreadName()).append("\" is ")
+        .append(waiting.getThreadState()).append(" on ").append(waiting.getLockName())
+        .append(" held by \"").append(owner.getThreadName()).append("\" (")
+        .append(owner.getThreadState()).append(')');
+    final MonitorInfo[] monitors = owner.getLockedMonitors();
+    if (monitors != null && monitors.length > 0) {
+      message.append(", which holds monitors");
+      for (MonitorInfo monitor : monitors) {
+        message.append(' ').append(monitor);
+      }
+    }
+    final LockInfo[] synchronizers = owner.getLockedSynchronizers();
+    if (synchronizers != null && synchronizers.length > 0) {
+      message.append(", which holds locks");
+      for (LockInfo synchronizer : synchronizers) {
+        message.append(' ').append(synchronizer);
+      }
+    }
+
+    final Exception blocked = new Exception(message.toString());
+    blocked.setStackTrace(owner.getStackTrace());
+
+    return blocked;
+  }
+
+  private static ThreadInfo threadInfo(final long threadId) {
+    try {
+      final ThreadInfo[] infos = THREADS.getThreadInfo(new long[] {threadId},
+          THREADS.isObjectMonitorUsageSupported(), THREADS.isSynchronizerUsageSupported());
+
+      return infos.length == 0 ? null : infos[0];
+    } catch (final SecurityException | UnsupportedOperationException notAllowed) {
+      return null;
+    }
+  }
+}
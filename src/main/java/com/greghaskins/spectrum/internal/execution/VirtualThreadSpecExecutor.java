@@ -0,0 +1,87 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
+
+/**
+ * Runs each task on its own virtual thread, so specs that block on I/O do not tie up a platform
+ * thread each. Virtual threads arrived in Java 21, while Spectrum builds against Java 8, so the
+ * executor is looked up reflectively. On earlier JVMs it is not {@link #isSupported() supported}
+ * and {@link SpecExecutors} falls back to {@link PlatformPoolSpecExecutor}.
+ */
+public final class VirtualThreadSpecExecutor implements SpecExecutor {
+
+  private static final ExecutorService VIRTUAL_THREADS = newVirtualThreadPerTaskExecutor();
+
+  /**
+   * Can this JVM provide virtual threads.
+   * @return true on Java 21 and later
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREADS != null;
+  }
+
+  @Override
+  public void invokeAll(final List<Runnable> tasks) {
+    if (!isSupported()) {
+      throw new IllegalStateException("Virtual threads need Java 21 or later");
+    }
+
+    final List<Future<?>> futures = tasks.stream()
+        .map(VIRTUAL_THREADS::submit)
+        .collect(Collectors.toList());
+    awaitAll(futures);
+  }
+
+  private static void awaitAll(final List<Future<?>> futures) {
+    RuntimeException firstFailure = null;
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (final ExecutionException failedTask) {
+        if (firstFailure == null) {
+          firstFailure = asUnchecked(failedTask.getCause());
+        }
+      } catch (final InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+        futures.forEach(each -> each.cancel(true));
+        throw new IllegalStateException("Interrupted while waiting for specs", interrupted);
+      }
+    }
+    if (firstFailure != null) {
+      throw firstFailure;
+    }
+  }
+
+  private static RuntimeException asUnchecked(final Throwable cause) {
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+
+    return cause instanceof RuntimeException ? (RuntimeException) cause
+        : new RuntimeException(cause);
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      builderType.getMethod("name", String.class, long.class)
+          .invoke(builder, "spectrum-virtual-", 0L);
+      final ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory")
+          .invoke(builder);
+      final Method newThreadPerTaskExecutor =
+          Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+      return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory);
+    } catch (final ReflectiveOperationException notAvailableBeforeJava21) {
+      return null;
+    }
+  }
+}
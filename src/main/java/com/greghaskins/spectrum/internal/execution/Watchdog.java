@@ -0,0 +1,192 @@
+package com.greghaskins.spectrum.internal.execution;
+
+import com.greghaskins.spectrum.Block;
+
+import org.junit.runners.model.TestTimedOutException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A single daemon thread, shared by all of the specs, which acts when something has run for too
+ * long. Blocks are run on the caller's own thread and the watchdog interrupts that thread when
+ * the time is up, so no thread is created per spec and nothing is left running afterwards. A
+ * thread which does not respond to the interrupt is given up on after a grace period.
+ */
+public final class Watchdog {
+
+  private static final ScheduledThreadPoolExecutor SCHEDULER = newScheduler();
+
+  // how long a thread has to return once it has been interrupted
+  private static final Duration GRACE_PERIOD = Duration.ofMillis(250);
+
+  private Watchdog() {}
+
+  /**
+   * Schedule a task on the watchdog thread.
+   * @param task to run, which must be quick as it holds up the other timeouts
+   * @param delay how long to wait before running it
+   * @return the scheduled task, which can be cancelled
+   */
+  public static ScheduledFuture<?> schedule(final Runnable task, final Duration delay) {
+    return SCHEDULER.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Run the block on this thread, interrupting it if it takes longer than the timeout. A thread
+   * can be stuck where an interrupt does not reach it, such as entering a {@code synchronized}
+   * block, so if it has still not returned once the grace period after the interrupt is over,
+   * the timeout is handed to {@code whenHung} from the watchdog, rather than waiting for it.
+   * @param block to run
+   * @param timeout how long the block has
+   * @param whenHung is given the timeout of a block which did not return in its grace period;
+   *        it is called on the watchdog thread, and the timeout is not thrown afterwards
+   * @throws Throwable a {@link TestTimedOutException} if the block was still running when the
+   *         time was up, whether or not it gave up when interrupted, otherwise anything the
+   *         block throws
+   */
+  public static void runWithTimeout(final Block block, final Duration timeout,
+      final Consumer<TestTimedOutException> whenHung) throws Throwable {
+    final Expiry expiry = new Expiry(Thread.currentThread(), timeout, whenHung);
+    final ScheduledFuture<?> watch = schedule(expiry, timeout);
+    Throwable thrown = null;
+    try {
+      block.run();
+    } catch (final Throwable throwable) {
+      thrown = throwable;
+    } finally {
+      watch.cancel(false);
+    }
+
+    if (expiry.finish()) {
+      if (thrown != null) {
+        throw thrown;
+      }
+
+      return;
+    }
+
+    final TestTimedOutException timedOut = expiry.awaitTimedOut();
+    // the interrupt was meant for the block, so must not leak into whatever runs next
+    Thread.interrupted();
+    if (timedOut == null) {
+      // the watchdog gave up on the block and has already handed on its timeout
+      return;
+    }
+    if (thrown != null) {
+      timedOut.addSuppressed(thrown);
+    }
+    throw timedOut;
+  }
+
+  /**
+   * Decides the race between the block finishing and the time running out, so the thread is
+   * only interrupted while it is still running the block, and then the race between the block
+   * returning and its grace period running out.
+   */
+  private static final class Expiry implements Runnable {
+    private static final int RUNNING = 0;
+    private static final int FINISHED = 1;
+    private static final int EXPIRED = 2;
+    private static final int RETURNED = 3;
+    private static final int HUNG = 4;
+
+    private final Thread thread;
+    private final Duration timeout;
+    private final Consumer<TestTimedOutException> whenHung;
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+    private final CountDownLatch expired = new CountDownLatch(1);
+    private final CountDownLatch handled = new CountDownLatch(1);
+    private volatile TestTimedOutException timedOut;
+
+    private Expiry(final Thread thread, final Duration timeout,
+        final Consumer<TestTimedOutException> whenHung) {
+      this.thread = thread;
+      this.timeout = timeout;
+      this.whenHung = whenHung;
+    }
+
+    @Override
+    public void run() {
+      if (this.state.compareAndSet(RUNNING, EXPIRED)) {
+        boolean deadlocked = false;
+        try {
+          this.timedOut = new TestTimedOutException(this.timeout.toMillis(),
+              TimeUnit.MILLISECONDS);
+          final StuckThread stuck = StuckThread.capture(this.thread);
+          stuck.attachTo(this.timedOut);
+          deadlocked = stuck.isDeadlocked();
+          this.thread.interrupt();
+        } finally {
+          this.expired.countDown();
+        }
+        // there is no point giving a deadlocked thread any longer
+        if (deadlocked) {
+          giveUpIfHung();
+        } else {
+          schedule(this::giveUpIfHung, GRACE_PERIOD);
+        }
+      }
+    }
+
+    private void giveUpIfHung() {
+      if (this.state.compareAndSet(EXPIRED, HUNG)) {
+        try {
+          this.whenHung.accept(this.timedOut);
+        } finally {
+          this.handled.countDown();
+        }
+      }
+    }
+
+    /**
+     * Once the time has run out and the block has returned, wait for the watchdog to finish
+     * with the thread, so that its interrupt has arrived and what the thread was doing has been
+     * captured. Then claim the timeout, unless the watchdog has already given up on the block, in
+     * which case wait for it to finish handing the timeout on.
+     * @return the timeout to throw, or null if it has been handed on already
+     */
+    TestTimedOutException awaitTimedOut() {
+      awaitUninterruptibly(this.expired);
+      if (this.state.compareAndSet(EXPIRED, RETURNED)) {
+        return this.timedOut;
+      }
+      awaitUninterruptibly(this.handled);
+
+      return null;
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+      boolean waiting = true;
+      while (waiting) {
+        try {
+          latch.await();
+          waiting = false;
+        } catch (final InterruptedException interrupted) {
+          // the interrupt from the watchdog itself, so keep waiting
+        }
+      }
+    }
+
+    boolean finish() {
+      return this.state.compareAndSet(RUNNING, FINISHED);
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor newScheduler() {
+    final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+      final Thread thread = new Thread(task, "spectrum-watchdog");
+      thread.setDaemon(true);
+
+      return thread;
+    });
+    scheduler.setRemoveOnCancelPolicy(true);
+
+    return scheduler;
+  }
+}
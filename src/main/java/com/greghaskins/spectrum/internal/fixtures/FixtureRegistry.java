@@ -0,0 +1,245 @@
+package com.greghaskins.spectrum.internal.fixtures;
+
+import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.execution.Watchdog;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Fixtures shared by every test class in the JVM, found by a key chosen by the user. A fixture
+ * is built the first time it is used and counts the suites using it. When the last of them
+ * finishes, it is closed once it has been idle for its grace period, so the next test class can
+ * pick it up again in the meantime. Anything still open is closed when the JVM shuts down.
+ */
+public final class FixtureRegistry {
+
+  private static final Listener NO_LISTENER = new Listener() {
+    @Override
+    public Runnable building(final Object fixture) {
+      return () -> {
+      };
+    }
+
+    @Override
+    public void closed(final Object fixture) {}
+  };
+
+  private static final FixtureRegistry INSTANCE = new FixtureRegistry();
+
+  private final Map<Object, Fixture<?>> fixtures = new HashMap<>();
+  private boolean shutdownHookAdded;
+  private volatile Listener listener = NO_LISTENER;
+
+  /**
+   * Told when fixtures are built and closed, so that what a fixture holds open can be told apart
+   * from what a suite has left behind.
+   */
+  public interface Listener {
+    /**
+     * A fixture is about to be built.
+     * @param fixture identifies the fixture, and is passed again when it is closed
+     * @return what to do once it has been built, or has failed to be
+     */
+    Runnable building(Object fixture);
+
+    /**
+     * A fixture has been closed.
+     * @param fixture as passed when it was built
+     */
+    void closed(Object fixture);
+  }
+
+  public static FixtureRegistry instance() {
+    return INSTANCE;
+  }
+
+  private FixtureRegistry() {}
+
+  /**
+   * Set the listener to tell about fixtures being built and closed.
+   * @param listener the listener
+   */
+  public void setListener(final Listener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Start using the fixture with the given key, creating its entry if this is the first user.
+   * The supplier and idle time of the first user are the ones that apply.
+   * @param key identifies the fixture across the JVM
+   * @param supplier builds the fixture the first time it is used
+   * @param idleTime how long the fixture is kept once nothing is using it
+   * @param <T> type of the fixture
+   * @return a lease on the fixture, which must be closed when the user is finished
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <T> Lease<T> acquire(final Object key, final ThrowingSupplier<T> supplier,
+      final Duration idleTime) {
+    addShutdownHookOnce();
+    final Fixture<?> fixture =
+        this.fixtures.computeIfAbsent(key, newKey -> new Fixture<>(newKey, supplier, idleTime));
+    fixture.users++;
+    fixture.cancelPendingClose();
+
+    return new Lease<>((Fixture<T>) fixture);
+  }
+
+  /**
+   * Is there a fixture with this key which has not been closed yet.
+   * @param key identifies the fixture
+   * @return true if the fixture is in use, or waiting out its grace period
+   */
+  public synchronized boolean isOpen(final Object key) {
+    return this.fixtures.containsKey(key);
+  }
+
+  private void release(final Fixture<?> fixture) {
+    synchronized (this) {
+      fixture.users--;
+      if (fixture.users > 0) {
+        return;
+      }
+      if (!fixture.idleTime.isZero()) {
+        fixture.pendingClose =
+            Watchdog.schedule(() -> closeInBackgroundIfIdle(fixture), fixture.idleTime);
+
+        return;
+      }
+      this.fixtures.remove(fixture.key);
+    }
+    try {
+      fixture.close();
+    } catch (final RuntimeException error) {
+      throw error;
+    } catch (final Exception error) {
+      throw new IllegalStateException("Could not close fixture " + fixture.key, error);
+    }
+  }
+
+  private void closeInBackgroundIfIdle(final Fixture<?> fixture) {
+    synchronized (this) {
+      if (fixture.users > 0 || this.fixtures.get(fixture.key) != fixture) {
+        return;
+      }
+      this.fixtures.remove(fixture.key);
+    }
+    // closing may be slow, so must not hold up the watchdog; nor may it keep the JVM alive
+    // once the tests are finished
+    final Thread closer = new Thread(() -> closeReportingErrors(fixture), "spectrum-fixture-close");
+    closer.setDaemon(true);
+    closer.start();
+  }
+
+  private void closeAll() {
+    final List<Fixture<?>> open;
+    synchronized (this) {
+      open = new ArrayList<>(this.fixtures.values());
+      this.fixtures.clear();
+    }
+    open.forEach(FixtureRegistry::closeReportingErrors);
+  }
+
+  private void addShutdownHookOnce() {
+    if (!this.shutdownHookAdded) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::closeAll, "spectrum-fixture-shutdown"));
+      this.shutdownHookAdded = true;
+    }
+  }
+
+  private static void closeReportingErrors(final Fixture<?> fixture) {
+    try {
+      fixture.close();
+    } catch (final Exception error) {
+      // there is no spec left to fail, so the best that can be done is to say so
+      System.err.println("Spectrum could not close fixture " + fixture.key + ": " + error);
+    }
+  }
+
+  /**
+   * One suite's use of a fixture.
+   */
+  public final class Lease<T> implements AutoCloseable {
+    private final Fixture<T> fixture;
+    private boolean closed;
+
+    private Lease(final Fixture<T> fixture) {
+      this.fixture = fixture;
+    }
+
+    /**
+     * Get the fixture, building it if nobody has used it yet.
+     * @return the fixture
+     */
+    public T get() {
+      return this.fixture.get();
+    }
+
+    @Override
+    public void close() {
+      if (!this.closed) {
+        this.closed = true;
+        release(this.fixture);
+      }
+    }
+  }
+
+  private static final class Fixture<T> {
+    private final Object key;
+    private final ThrowingSupplier<T> supplier;
+    private final Duration idleTime;
+    private int users;
+    private ScheduledFuture<?> pendingClose;
+    private T value;
+    private boolean built;
+    private boolean closed;
+
+    private Fixture(final Object key, final ThrowingSupplier<T> supplier,
+        final Duration idleTime) {
+      this.key = key;
+      this.supplier = supplier;
+      this.idleTime = idleTime;
+    }
+
+    private void cancelPendingClose() {
+      if (this.pendingClose != null) {
+        this.pendingClose.cancel(false);
+        this.pendingClose = null;
+      }
+    }
+
+    synchronized T get() {
+      if (this.closed) {
+        throw new IllegalStateException("Fixture " + this.key + " has been closed.");
+      }
+      if (!this.built) {
+        final Runnable built = INSTANCE.listener.building(this);
+        try {
+          this.value = this.supplier.get();
+        } finally {
+          built.run();
+        }
+        this.built = true;
+      }
+
+      return this.value;
+    }
+
+    synchronized void close() throws Exception {
+      this.closed = true;
+      final T closing = this.value;
+      this.value = null;
+      try {
+        if (closing instanceof AutoCloseable) {
+          ((AutoCloseable) closing).close();
+        }
+      } finally {
+        INSTANCE.listener.closed(this);
+      }
+    }
+  }
+}
@@ -1,13 +1,16 @@
 package com.greghaskins.spectrum.internal.hooks;
 
 import com.greghaskins.spectrum.Block;
-import com.greghaskins.spectrum.Variable;
 import com.greghaskins.spectrum.internal.DeclarationState;
 import com.greghaskins.spectrum.internal.RunReporting;
 
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * A base class for {@link SupplyingHook hooks that supply a value}.
  *
@@ -15,10 +18,17 @@ import org.junit.runner.notification.Failure;
  * You can use this to write any plugin which needs to make a value visible to the specs.
  * This is not the only way to achieve that - you can also build from {@link SupplyingHook}
  * but this captures the template for a complex hook.
+ *
+ * <p>The before method is not called until the value is first asked for, so a spec which does
+ * not use the value does not pay for it. The value belongs to the thread running the spec, and
+ * any threads it starts, so specs running in parallel each see their own. Any other thread, such
+ * as one from a pool started by an earlier spec, sees the value of the spec which is running, so
+ * long as only one is.
  */
 abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
 
-  private final Variable<T> value = new Variable<>();
+  private final ThreadLocal<LazyValue<T>> value = new InheritableThreadLocal<>();
+  private final Set<LazyValue<T>> running = ConcurrentHashMap.newKeySet();
 
   /**
    * Override this to supply behaviour for before the block is run.
@@ -36,7 +46,8 @@ abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
   protected abstract String getExceptionMessageIfUsedAtDeclarationTime();
 
   /**
-   * Override this to supply behaviour for after the block is run.
+   * Override this to supply behaviour for after the block is run. It is only called if the
+   * value was supplied during the block.
    */
   protected void after() {}
 
@@ -51,14 +62,20 @@ abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
   @Override
   public void accept(final Description description, final RunReporting<Description, Failure> reporting,
       final Block block) throws Throwable {
+    final LazyValue<T> outer = this.value.get();
+    final LazyValue<T> lazyValue = new LazyValue<>(this::before);
+    this.value.set(lazyValue);
+    this.running.add(lazyValue);
     try {
-      this.value.set(before());
       block.run();
     } finally {
+      this.running.remove(lazyValue);
       try {
-        after();
+        if (lazyValue.finish()) {
+          after();
+        }
       } finally {
-        clear();
+        restore(outer);
       }
     }
   }
@@ -66,12 +83,71 @@ abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
   @Override
   public T get() {
     assertSpectrumIsRunningTestsNotDeclaringThem();
+    final LazyValue<T> own = this.value.get();
+    if (own != null && !own.isFinished()) {
+      return own.get();
+    }
 
-    return this.value.get();
+    // a thread which the running spec did not start, or which an earlier spec started
+    final Object[] values = this.running.toArray();
+    if (values.length != 1) {
+      throw new IllegalStateException("There is no value on this thread. It is only available "
+          + "while a spec is running, and from other threads only when the spec started them or "
+          + "is the only one running.");
+    }
+    @SuppressWarnings("unchecked")
+    final LazyValue<T> onlyRunning = (LazyValue<T>) values[0];
+
+    return onlyRunning.get();
   }
 
-  private void clear() {
-    this.value.set(null);
+  private void restore(final LazyValue<T> outer) {
+    if (outer == null) {
+      this.value.remove();
+    } else {
+      this.value.set(outer);
+    }
+  }
+
+  /**
+   * The value for one run of the block, supplied the first time it is asked for.
+   */
+  private static final class LazyValue<T> {
+    private final Supplier<T> supplier;
+    private T value;
+    private boolean supplied;
+    private boolean finished;
+
+    private LazyValue(final Supplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    synchronized boolean isFinished() {
+      return this.finished;
+    }
+
+    synchronized T get() {
+      if (this.finished) {
+        throw new IllegalStateException("The spec which this value belonged to has finished.");
+      }
+      if (!this.supplied) {
+        this.value = this.supplier.get();
+        this.supplied = true;
+      }
+
+      return this.value;
+    }
+
+    /**
+     * Forget the value, so that a thread left holding this cannot see it after the block.
+     * @return whether the value was ever supplied
+     */
+    synchronized boolean finish() {
+      this.finished = true;
+      this.value = null;
+
+      return this.supplied;
+    }
   }
 
   /**
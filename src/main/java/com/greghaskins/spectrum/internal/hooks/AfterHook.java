@@ -1,24 +1,84 @@
 package com.greghaskins.spectrum.internal.hooks;
 
+import static com.greghaskins.spectrum.internal.blocks.NotifyingBlock.executeAndReport;
+
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
 
 /**
- * A hook that will run after something.
+ * A hook that will run after something. Adjacent after hooks in a {@link HookChain} are fused
+ * into a single link.
  * @see BeforeHook
  */
-public interface AfterHook {
+@FunctionalInterface
+public interface AfterHook extends Hook {
+  /**
+   * The block to run after the inner.
+   * @return the block
+   */
+  Block afterBlock();
+
+  @Override
+  default void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block inner) throws Throwable {
+    try {
+      inner.run();
+    } finally {
+      afterBlock().run();
+    }
+  }
+
   /**
    * Insert the block after the inner.
    * @param block the inner block
    * @return new {@link Hook} which runs the inner then the provided block
    */
-  static Hook after(final Block block) {
-    return (description, notifier, inner) -> {
+  static AfterHook after(final Block block) {
+    return () -> block;
+  }
+
+  /**
+   * Fuse after hooks into one, which has the same effect as chaining them. Every block runs
+   * whether or not the ones before it failed, and each failure is reported as it would have been
+   * from its own link in the chain.
+   * @param outermostFirst the hooks in chain order, so the last one here runs first
+   * @return a single hook which runs the inner, then all of the blocks
+   */
+  static Hook fused(final List<AfterHook> outermostFirst) {
+    final Block[] outermostBlocksFirst = outermostFirst.stream()
+        .map(AfterHook::afterBlock)
+        .toArray(Block[]::new);
+
+    return (description, reporting, inner) -> {
       try {
         inner.run();
       } finally {
-        block.run();
+        runFromInnermost(outermostBlocksFirst, outermostBlocksFirst.length - 1, description,
+            reporting);
       }
     };
   }
+
+  static void runFromInnermost(final Block[] outermostBlocksFirst, final int index,
+      final Description description, final RunReporting<Description, Failure> reporting)
+      throws Throwable {
+    if (index < 0) {
+      return;
+    }
+    try {
+      if (index == 0) {
+        // the outermost block's failure is reported by whatever runs this hook
+        outermostBlocksFirst[index].run();
+      } else {
+        executeAndReport(description, reporting, outermostBlocksFirst[index]);
+      }
+    } finally {
+      runFromInnermost(outermostBlocksFirst, index - 1, description, reporting);
+    }
+  }
 }
@@ -0,0 +1,99 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.blocks.NotifyingBlock;
+import com.greghaskins.spectrum.internal.execution.CleanupExecutor;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Clean up which is handed to the {@link CleanupExecutor} after each spec, so the next spec can
+ * start straight away. The suite waits for all of it at a barrier when its children have run.
+ * By then each spec has finished, so a failure is reported against the suite, naming the spec
+ * whose clean up it was.
+ */
+public final class AsyncCleanup {
+
+  private final Block block;
+  private final List<PendingCleanup> pending = new ArrayList<>();
+
+  public AsyncCleanup(final Block block) {
+    this.block = block;
+  }
+
+  /**
+   * The hook to run around each spec, which hands off the clean up once the spec has run.
+   * @return the hook
+   */
+  public Hook afterEachSpec() {
+    return (description, reporting, inner) -> {
+      try {
+        inner.run();
+      } finally {
+        submit(description, reporting);
+      }
+    };
+  }
+
+  /**
+   * The hook to run once around the suite, which waits for all of the clean up.
+   * @return the hook
+   */
+  public Hook barrier() {
+    return (description, reporting, inner) -> {
+      try {
+        inner.run();
+      } finally {
+        awaitAll(description, reporting);
+      }
+    };
+  }
+
+  private void submit(final Description description,
+      final RunReporting<Description, Failure> reporting) {
+    final Future<Void> outcome = CleanupExecutor.submit(this.block);
+    synchronized (this.pending) {
+      this.pending.add(new PendingCleanup(description, outcome));
+    }
+  }
+
+  private void awaitAll(final Description suite,
+      final RunReporting<Description, Failure> reporting) throws InterruptedException {
+    final List<PendingCleanup> waitingFor;
+    synchronized (this.pending) {
+      waitingFor = new ArrayList<>(this.pending);
+      this.pending.clear();
+    }
+    for (PendingCleanup cleanup : waitingFor) {
+      cleanup.awaitAndReport(suite, reporting);
+    }
+  }
+
+  private static final class PendingCleanup {
+    private final Description spec;
+    private final Future<Void> outcome;
+
+    private PendingCleanup(final Description spec, final Future<Void> outcome) {
+      this.spec = spec;
+      this.outcome = outcome;
+    }
+
+    void awaitAndReport(final Description suite,
+        final RunReporting<Description, Failure> reporting) throws InterruptedException {
+      try {
+        this.outcome.get();
+      } catch (final ExecutionException failed) {
+        final Throwable cause = failed.getCause();
+        NotifyingBlock.report(suite, reporting, new RuntimeException("afterEachAsync after "
+            + this.spec.getDisplayName() + " failed: " + cause.getMessage(), cause));
+      }
+    }
+  }
+}
@@ -1,21 +1,56 @@
 package com.greghaskins.spectrum.internal.hooks;
 
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
 
 /**
- * A hook that will run before something.
+ * A hook that will run before something. Adjacent before hooks in a {@link HookChain} are fused
+ * into a single link.
  * @see AfterHook
  */
-public interface BeforeHook {
+@FunctionalInterface
+public interface BeforeHook extends Hook {
+  /**
+   * The block to run before the inner.
+   * @return the block
+   */
+  Block beforeBlock();
+
+  @Override
+  default void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block inner) throws Throwable {
+    beforeBlock().run();
+    inner.run();
+  }
+
   /**
    * Insert the block before the inner.
    * @param block the inner block
    * @return new {@link Hook} which runs the provided block then the inner
    */
-  static Hook before(final Block block) {
-    return (description, notifier, inner) -> {
-      block.run();
-      inner.run();
-    };
+  static BeforeHook before(final Block block) {
+    return () -> block;
+  }
+
+  /**
+   * Fuse before hooks into one, which has the same effect as chaining them.
+   * @param outermostFirst the hooks in the order they would run
+   * @return a single hook which runs all of their blocks, in order, then the inner
+   */
+  static BeforeHook fused(final List<BeforeHook> outermostFirst) {
+    final Block[] blocks = outermostFirst.stream()
+        .map(BeforeHook::beforeBlock)
+        .toArray(Block[]::new);
+
+    return before(() -> {
+      for (Block block : blocks) {
+        block.run();
+      }
+    });
   }
 }
@@ -0,0 +1,61 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.fixtures.FixtureRegistry;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.time.Duration;
+
+/**
+ * A hook which runs once around a suite, holding a lease on a fixture from the
+ * {@link FixtureRegistry} while the suite runs. The fixture itself outlives the suite, so long as
+ * some other suite picks it up before its idle time is up.
+ */
+public class FixtureHook<T> implements SupplyingHook<T> {
+
+  private final Object key;
+  private final ThrowingSupplier<T> supplier;
+  private final Duration idleTime;
+  private volatile FixtureRegistry.Lease<T> lease;
+
+  public FixtureHook(final Object key, final ThrowingSupplier<T> supplier,
+      final Duration idleTime) {
+    this.key = key;
+    this.supplier = supplier;
+    this.idleTime = idleTime;
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) throws Throwable {
+    try (FixtureRegistry.Lease<T> acquired =
+        FixtureRegistry.instance().acquire(this.key, this.supplier, this.idleTime)) {
+      this.lease = acquired;
+      try {
+        block.run();
+      } finally {
+        this.lease = null;
+      }
+    }
+  }
+
+  @Override
+  public T get() {
+    if (DeclarationState.instance().getCurrentSuiteBeingDeclared() != null) {
+      throw new IllegalStateException("Cannot use a fixture in a suite declaration. "
+          + "It may only be used in the context of a running spec.");
+    }
+    final FixtureRegistry.Lease<T> current = this.lease;
+    if (current == null) {
+      throw new IllegalStateException(
+          "Cannot use fixture " + this.key + " outside of the suite which declared it.");
+    }
+
+    return current.get();
+  }
+}
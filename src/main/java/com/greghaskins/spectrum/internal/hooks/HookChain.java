@@ -0,0 +1,176 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.blocks.NotifyingBlock;
+import com.greghaskins.spectrum.internal.reporting.TestEvents;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A chain of responsibility made from {@link Hooks}, linked once so it can be run around any
+ * number of blocks. Running the chain allocates a single object to track where execution has
+ * got to, rather than wrapping each link in new lambdas every time.
+ *
+ * <p>Adjacent {@link BeforeHook} and {@link AfterHook} links are fused into one link each, as
+ * there is nothing between them to observe the difference. A hook which
+ * {@link Hook#requiresUnreportedInnerBlock() requires an unreported inner block} is never fused,
+ * so that the links inside it can be left to it to report.
+ */
+public final class HookChain {
+
+  private final Hook[] links;
+
+  // the context of each link, or of the outermost of the hooks fused into it
+  private final HookContext[] contexts;
+
+  /**
+   * Link the hooks into a chain.
+   * @param innermostFirst hooks in the order of a sorted {@link Hooks}, where the last one is
+   *        the outermost
+   */
+  HookChain(final List<HookContext> innermostFirst) {
+    final List<HookContext> outermostFirst = new ArrayList<>(innermostFirst.size());
+    for (int index = innermostFirst.size() - 1; index >= 0; index--) {
+      outermostFirst.add(innermostFirst.get(index));
+    }
+
+    final List<Hook> fusedLinks = new ArrayList<>(outermostFirst.size());
+    final List<HookContext> fusedContexts = new ArrayList<>(outermostFirst.size());
+    int index = 0;
+    while (index < outermostFirst.size()) {
+      final int end = endOfRunOfSameKind(outermostFirst, index);
+      fusedLinks.add(fuseRun(outermostFirst.subList(index, end)));
+      fusedContexts.add(outermostFirst.get(index));
+      index = end;
+    }
+    this.links = fusedLinks.toArray(new Hook[0]);
+    this.contexts = fusedContexts.toArray(new HookContext[0]);
+  }
+
+  /**
+   * How many links there are once adjacent hooks have been fused.
+   * @return the number of links
+   */
+  public int length() {
+    return this.links.length;
+  }
+
+  /**
+   * Execute the block inside the chain, reporting rather than rethrowing any failure.
+   * @param description test node being run
+   * @param reporting test result notifier
+   * @param block to execute
+   */
+  public void runAround(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) {
+    try {
+      new Execution(description, reporting, block).runChain();
+    } catch (final Throwable throwable) {
+      NotifyingBlock.report(description, reporting, throwable);
+    }
+  }
+
+  /**
+   * The state of one run of the chain. It is also the block that each link is given to run its
+   * inner links with, so it keeps track of which link is next.
+   */
+  private final class Execution implements Block {
+    private final Description description;
+    private final RunReporting<Description, Failure> reporting;
+    private final Block block;
+    private int next = 0;
+    private boolean innerBlockRan = false;
+
+    private Execution(final Description description,
+        final RunReporting<Description, Failure> reporting, final Block block) {
+      this.description = description;
+      this.reporting = reporting;
+      this.block = block;
+    }
+
+    void runChain() throws Throwable {
+      run();
+      if (!this.innerBlockRan) {
+        throw new RuntimeException("At least one of the test hooks did not run the test block.");
+      }
+    }
+
+    @Override
+    public void run() throws Throwable {
+      final int index = this.next;
+      if (index == links.length) {
+        // the block is responsible for its own reporting, so it is run bare
+        this.innerBlockRan = true;
+        this.block.run();
+
+        return;
+      }
+
+      this.next = index + 1;
+      final TestEvents.Span span = TestEvents.instance().hook(this.description, contexts[index]);
+      try {
+        links[index].accept(this.description, this.reporting, this);
+      } catch (final Throwable throwable) {
+        // each link reports on the links inside it, in case it swallows their failure, unless
+        // it reports them itself; the outermost link is reported by runAround
+        if (index > 0 && !links[index - 1].requiresUnreportedInnerBlock()) {
+          NotifyingBlock.report(this.description, this.reporting, throwable);
+        }
+        throw throwable;
+      } finally {
+        span.end();
+        // allows a hook to run its inner block more than once
+        this.next = index;
+      }
+    }
+  }
+
+  private static int endOfRunOfSameKind(final List<HookContext> hooks, final int start) {
+    final Class<?> kind = fusableKind(hooks.get(start).getHook());
+    int end = start + 1;
+    while (kind != null && end < hooks.size()
+        && fusableKind(hooks.get(end).getHook()) == kind) {
+      end++;
+    }
+
+    return end;
+  }
+
+  private static Class<?> fusableKind(final Hook hook) {
+    if (hook.requiresUnreportedInnerBlock()) {
+      return null;
+    }
+    if (hook instanceof BeforeHook) {
+      return BeforeHook.class;
+    }
+    if (hook instanceof AfterHook) {
+      return AfterHook.class;
+    }
+
+    return null;
+  }
+
+  private static Hook fuseRun(final List<HookContext> run) {
+    if (run.size() == 1) {
+      return run.get(0).getHook();
+    }
+
+    final List<Hook> sameKind = new ArrayList<>(run.size());
+    run.forEach(context -> sameKind.add(context.getHook()));
+
+    return sameKind.get(0) instanceof BeforeHook ? BeforeHook.fused(castAll(sameKind))
+        : AfterHook.fused(castAll(sameKind));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends Hook> List<T> castAll(final List<Hook> sameKind) {
+    final List<?> hooks = sameKind;
+
+    return (List<T>) hooks;
+  }
+}
@@ -5,6 +5,7 @@ import static com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo.EACH
 import static com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo.ONCE;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Container for a hook. Determines whether the hook runs just within the suite, or whether it
@@ -16,6 +17,8 @@ public class HookContext implements Comparable<HookContext> {
   private final int sequenceNumber;
   private final Precedence precedence;
   private final int hierarchyDepth;
+  private final Supplier<String> owner;
+  private volatile String ownerPath;
 
   private static final AtomicInteger SEQUENCE_GENERATOR = new AtomicInteger();
 
@@ -102,11 +105,25 @@ public class HookContext implements Comparable<HookContext> {
    */
   public HookContext(final Hook hook, final int hierarchyDepth,
       final AppliesTo appliesTo, final Precedence precedence) {
+    this(hook, hierarchyDepth, appliesTo, precedence, () -> "");
+  }
+
+  /**
+   * Construct a hook context for a hook declared in a suite.
+   * @param hook the hook being wrapped
+   * @param hierarchyDepth where in the hierarchy this was created
+   * @param appliesTo where in the lifecycle is this hook applied?
+   * @param precedence the importance of this within the lifecycle
+   * @param owner gives the path of suites the hook was declared in, only when it is asked for
+   */
+  public HookContext(final Hook hook, final int hierarchyDepth,
+      final AppliesTo appliesTo, final Precedence precedence, final Supplier<String> owner) {
     this.hook = hook;
     this.appliesTo = appliesTo;
     this.sequenceNumber = SEQUENCE_GENERATOR.incrementAndGet();
     this.precedence = precedence;
     this.hierarchyDepth = hierarchyDepth;
+    this.owner = owner;
   }
 
   /**
@@ -117,6 +134,26 @@ public class HookContext implements Comparable<HookContext> {
     return hook;
   }
 
+  public AppliesTo getAppliesTo() {
+    return appliesTo;
+  }
+
+  public Precedence getPrecedence() {
+    return precedence;
+  }
+
+  /**
+   * The suite which declared the hook.
+   * @return the path of suites, or empty if Spectrum added the hook itself
+   */
+  public String getOwner() {
+    if (ownerPath == null) {
+      ownerPath = owner.get();
+    }
+
+    return ownerPath;
+  }
+
   /**
    * Does this hook apply only to atomic items. Atomic hooks will propagate
    * down to the most atomic level.
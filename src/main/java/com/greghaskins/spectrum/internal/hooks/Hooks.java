@@ -1,12 +1,7 @@
 package com.greghaskins.spectrum.internal.hooks;
 
-import static com.greghaskins.spectrum.internal.blocks.NotifyingBlock.wrapWithReporting;
-import static com.greghaskins.spectrum.internal.hooks.NonReportingHook.nonReportingHookFrom;
-
 import com.greghaskins.spectrum.Block;
-import com.greghaskins.spectrum.Variable;
 import com.greghaskins.spectrum.internal.RunReporting;
-import com.greghaskins.spectrum.internal.blocks.NotifyingBlock;
 
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
@@ -60,6 +55,15 @@ public class Hooks extends ArrayList<HookContext> {
     return result;
   }
 
+  /**
+   * Link the hooks, in their current order, into a chain which can be run many times. Sort
+   * them first to get execution order.
+   * @return the chain, where the last of these hooks is the outermost
+   */
+  public HookChain compile() {
+    return new HookChain(this);
+  }
+
   /**
    * Convert the hooks into a chain of responsibility and execute as
    * a consumer of the given block.
@@ -69,59 +73,7 @@ public class Hooks extends ArrayList<HookContext> {
    */
   public void runAround(final Description description, final RunReporting<Description, Failure> reporting,
       final Block block) {
-    NotifyingBlock.run(description, reporting,
-        () -> runAroundInternal(description, reporting, block));
-  }
-
-  private void runAroundInternal(final Description description,
-      final RunReporting<Description, Failure> reporting,
-      final Block block) throws Throwable {
-    Variable<Boolean> hooksRememberedToRunTheInner = new Variable<>(false);
-
-    Hook chainOfResponsibility = createChainOfResponsibility(hooksRememberedToRunTheInner);
-    executeChain(description, reporting, block, chainOfResponsibility);
-
-    if (!hooksRememberedToRunTheInner.get()) {
-      throw new RuntimeException("At least one of the test hooks did not run the test block.");
-    }
-  }
-
-  private Hook createChainOfResponsibility(Variable<Boolean> hooksRememberedToRunTheInner) {
-    Hook chainOfResponsibility = innerHook(hooksRememberedToRunTheInner);
-
-    for (HookContext context : this) {
-      chainOfResponsibility = wrap(chainOfResponsibility, context);
-    }
-
-    return chainOfResponsibility;
-  }
-
-  private void executeChain(final Description description,
-      final RunReporting<Description, Failure> reporting,
-      final Block block, final Hook chainOfResponsibility) throws Throwable {
-    chainOfResponsibility.accept(description, reporting, block);
-  }
-
-  private Hook innerHook(final Variable<Boolean> hooksRememberedToRunTheInner) {
-    return nonReportingHookFrom((description, reporting, block) -> {
-      hooksRememberedToRunTheInner.set(true);
-      block.run();
-    });
-  }
-
-  private Hook wrap(final Hook inner, final HookContext outer) {
-    return (description, reporting, block) -> outer.getHook().accept(description, reporting,
-        conditionallyWrapWithReporting(inner, description, reporting,
-            () -> inner.accept(description, reporting, block)));
-  }
-
-  private static Block conditionallyWrapWithReporting(final Hook forHook, final Description description,
-      final RunReporting<Description, Failure> reporting, final Block innerBlock) {
-    if (forHook.requiresUnreportedInnerBlock()) {
-      return innerBlock;
-    }
-
-    return wrapWithReporting(description, reporting, innerBlock);
+    compile().runAround(description, reporting, block);
   }
 
   private Hooks filtered(Predicate<HookContext> predicate) {
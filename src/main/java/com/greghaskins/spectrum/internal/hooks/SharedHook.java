@@ -0,0 +1,107 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+/**
+ * Implementation of shared as a hook which runs once around a suite. The value is supplied the
+ * first time any spec in the suite asks for it, and is then the same for every spec, even those
+ * running in parallel. When the suite finishes the value is forgotten, and closed if it is
+ * {@link AutoCloseable}.
+ */
+public class SharedHook<T> implements SupplyingHook<T> {
+
+  private final ThrowingSupplier<T> supplier;
+  private volatile SharedValue<T> current;
+
+  public SharedHook(final ThrowingSupplier<T> supplier) {
+    this.supplier = supplier;
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) throws Throwable {
+    final SharedValue<T> sharedValue = new SharedValue<>(this.supplier);
+    this.current = sharedValue;
+    try {
+      block.run();
+    } finally {
+      this.current = null;
+      sharedValue.release();
+    }
+  }
+
+  @Override
+  public T get() {
+    if (DeclarationState.instance().getCurrentSuiteBeingDeclared() != null) {
+      throw new IllegalStateException("Cannot use the value from shared() in a suite declaration. "
+          + "It may only be used in the context of a running spec.");
+    }
+    final SharedValue<T> sharedValue = this.current;
+    if (sharedValue == null) {
+      throw new IllegalStateException(
+          "Cannot use the value from shared() outside of the suite which declared it.");
+    }
+
+    return sharedValue.get();
+  }
+
+  /**
+   * The value for one run of the suite. A supplier which fails is not retried, so every spec
+   * which asks sees the same failure.
+   */
+  private static final class SharedValue<T> {
+    private final ThrowingSupplier<T> supplier;
+    private volatile boolean supplied;
+    private T value;
+    private Throwable failure;
+
+    private SharedValue(final ThrowingSupplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    T get() {
+      if (!this.supplied) {
+        supply();
+      }
+      if (this.failure instanceof Error) {
+        throw (Error) this.failure;
+      }
+      if (this.failure instanceof RuntimeException) {
+        throw (RuntimeException) this.failure;
+      }
+      if (this.failure != null) {
+        throw new RuntimeException(this.failure);
+      }
+
+      return this.value;
+    }
+
+    private synchronized void supply() {
+      if (this.supplied) {
+        return;
+      }
+      try {
+        this.value = this.supplier.get();
+      } catch (final Throwable error) {
+        // kept whatever it is, so no spec goes on with a value which was never supplied
+        this.failure = error;
+      } finally {
+        this.supplied = true;
+      }
+    }
+
+    synchronized void release() throws Exception {
+      final T released = this.value;
+      this.value = null;
+      if (released instanceof AutoCloseable) {
+        ((AutoCloseable) released).close();
+      }
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.greghaskins.spectrum.internal.junit;
+
+import com.greghaskins.spectrum.internal.blocks.ConstructorBlock;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.rules.MethodRule;
+import org.junit.rules.TestRule;
+import org.junit.runners.model.FrameworkField;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * What JUnit needs to know about a rule class, found by scanning its annotations once. The
+ * result is shared by every {@link RuleContext} of the same class, and reads the rules through
+ * method handles rather than reflecting on each use.
+ */
+final class RuleClassDescriptor<T> {
+  private static final MethodType ACCESSOR = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+
+  private static final ClassValue<RuleClassDescriptor<?>> DESCRIPTORS =
+      new ClassValue<RuleClassDescriptor<?>>() {
+        @Override
+        protected RuleClassDescriptor<?> computeValue(final Class<?> type) {
+          return new RuleClassDescriptor<>(type);
+        }
+      };
+
+  private final Class<T> ruleClass;
+  private final MethodHandle constructor;
+  private final List<MethodHandle> ruleAccessors;
+  private final List<MethodHandle> classRuleAccessors;
+  private final List<FrameworkMethod> beforeClassMethods;
+  private final List<FrameworkMethod> afterClassMethods;
+
+  /**
+   * Find the descriptor of a class, scanning it the first time it is asked for.
+   * @param ruleClass the class with JUnit annotations
+   * @param <T> type of the class
+   * @return the shared descriptor
+   */
+  @SuppressWarnings("unchecked")
+  static <T> RuleClassDescriptor<T> of(final Class<T> ruleClass) {
+    return (RuleClassDescriptor<T>) DESCRIPTORS.get(ruleClass);
+  }
+
+  private RuleClassDescriptor(final Class<T> ruleClass) {
+    this.ruleClass = ruleClass;
+    final TestClass testClass = new TestClass(ruleClass);
+    this.constructor = findConstructor(ruleClass);
+    this.ruleAccessors = accessorsOf(testClass, Rule.class);
+    this.classRuleAccessors = accessorsOf(testClass, ClassRule.class);
+    this.beforeClassMethods = testClass.getAnnotatedMethods(BeforeClass.class);
+    this.afterClassMethods = testClass.getAnnotatedMethods(AfterClass.class);
+  }
+
+  Class<T> getRuleClass() {
+    return this.ruleClass;
+  }
+
+  /**
+   * Construct a new instance with the class's default constructor.
+   * @return the new object
+   * @throws Throwable whatever the constructor throws, or if it cannot be called
+   */
+  T construct() throws Throwable {
+    if (this.constructor == null) {
+      // let the usual route explain why the class cannot be built
+      final ConstructorBlock<T> constructorBlock = new ConstructorBlock<>(this.ruleClass);
+      constructorBlock.run();
+
+      return this.ruleClass.cast(constructorBlock.get());
+    }
+
+    return this.ruleClass.cast((Object) this.constructor.invokeExact());
+  }
+
+  List<TestRule> getTestRules(final Object target) throws Throwable {
+    return valuesOf(this.ruleAccessors, target, TestRule.class);
+  }
+
+  List<MethodRule> getMethodRules(final Object target) throws Throwable {
+    return valuesOf(this.ruleAccessors, target, MethodRule.class);
+  }
+
+  List<TestRule> getClassRules() throws Throwable {
+    return valuesOf(this.classRuleAccessors, null, TestRule.class);
+  }
+
+  List<FrameworkMethod> getBeforeClassMethods() {
+    return this.beforeClassMethods;
+  }
+
+  List<FrameworkMethod> getAfterClassMethods() {
+    return this.afterClassMethods;
+  }
+
+  boolean hasAnyJUnitAnnotations() {
+    return !this.ruleAccessors.isEmpty() || !this.classRuleAccessors.isEmpty()
+        || !this.beforeClassMethods.isEmpty() || !this.afterClassMethods.isEmpty();
+  }
+
+  private static <R> List<R> valuesOf(final List<MethodHandle> accessors, final Object target,
+      final Class<R> valueType) throws Throwable {
+    final List<R> values = new ArrayList<>(accessors.size());
+    for (MethodHandle accessor : accessors) {
+      final Object value = (Object) accessor.invokeExact(target);
+      if (valueType.isInstance(value)) {
+        values.add(valueType.cast(value));
+      }
+    }
+
+    return values;
+  }
+
+  /**
+   * Resolve the annotated methods, then fields, into handles which take the target object and
+   * return the value, in the order JUnit would read them.
+   */
+  private static List<MethodHandle> accessorsOf(final TestClass testClass,
+      final Class<? extends Annotation> annotation) {
+    final List<MethodHandle> accessors = new ArrayList<>();
+    Stream.concat(
+        testClass.getAnnotatedMethods(annotation).stream().map(FrameworkMethod::getMethod)
+            .map(RuleClassDescriptor::accessorOf),
+        testClass.getAnnotatedFields(annotation).stream().map(FrameworkField::getField)
+            .map(RuleClassDescriptor::accessorOf))
+        .forEach(accessors::add);
+
+    return Collections.unmodifiableList(accessors);
+  }
+
+  private static MethodHandle accessorOf(final Method method) {
+    try {
+      method.setAccessible(true);
+
+      return asAccessor(MethodHandles.lookup().unreflect(method),
+          Modifier.isStatic(method.getModifiers()));
+    } catch (final IllegalAccessException error) {
+      throw new IllegalStateException("Cannot read rule from " + method, error);
+    }
+  }
+
+  private static MethodHandle accessorOf(final Field field) {
+    try {
+      field.setAccessible(true);
+
+      return asAccessor(MethodHandles.lookup().unreflectGetter(field),
+          Modifier.isStatic(field.getModifiers()));
+    } catch (final IllegalAccessException error) {
+      throw new IllegalStateException("Cannot read rule from " + field, error);
+    }
+  }
+
+  private static MethodHandle asAccessor(final MethodHandle handle, final boolean isStatic) {
+    if (isStatic) {
+      return MethodHandles.dropArguments(handle.asType(MethodType.methodType(Object.class)), 0,
+          Object.class);
+    }
+
+    return handle.asType(ACCESSOR);
+  }
+
+  private static MethodHandle findConstructor(final Class<?> ruleClass) {
+    try {
+      final Constructor<?> declared = ruleClass.getDeclaredConstructor();
+      declared.setAccessible(true);
+
+      return MethodHandles.lookup().unreflectConstructor(declared).asType(CONSTRUCTOR);
+    } catch (final ReflectiveOperationException | RuntimeException cannotBeConstructed) {
+      return null;
+    }
+  }
+}
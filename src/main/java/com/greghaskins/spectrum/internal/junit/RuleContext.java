@@ -3,13 +3,9 @@ package com.greghaskins.spectrum.internal.junit;
 import static com.greghaskins.spectrum.internal.junit.StubJUnitFrameworkMethod.stubFrameworkMethod;
 
 import com.greghaskins.spectrum.Block;
-import com.greghaskins.spectrum.internal.blocks.ConstructorBlock;
+import com.greghaskins.spectrum.ThrowingConsumer;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 
-import org.junit.AfterClass;
-import org.junit.BeforeClass;
-import org.junit.ClassRule;
-import org.junit.Rule;
 import org.junit.internal.runners.statements.RunAfters;
 import org.junit.internal.runners.statements.RunBefores;
 import org.junit.rules.MethodRule;
@@ -18,39 +14,67 @@ import org.junit.rules.TestRule;
 import org.junit.runner.Description;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.Statement;
-import org.junit.runners.model.TestClass;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Tracks a junit.rule that must be applied to all descendants of a suite.
  */
 public class RuleContext<T> implements Supplier<T> {
-  private final Class<T> ruleClass;
-  private final TestClass testClass;
-  private T currentTestObject;
+  private static final FrameworkMethod STUB_METHOD = stubFrameworkMethod();
+
+  private final RuleClassDescriptor<T> ruleClass;
+  private final T fixedTestObject;
+  private final ThreadLocal<T> currentTestObject = new InheritableThreadLocal<>();
   private final boolean constructEveryTime;
+  private final Map<Thread, T> pooledTestObjects;
+  private final ThrowingConsumer<T> reset;
 
   RuleContext(final Class<T> ruleClass) {
-    this.ruleClass = ruleClass;
-    this.testClass = new TestClass(ruleClass);
+    this.ruleClass = RuleClassDescriptor.of(ruleClass);
+    this.fixedTestObject = null;
     this.constructEveryTime = true;
+    this.pooledTestObjects = null;
+    this.reset = null;
+  }
+
+  /**
+   * Construct a context which keeps one test object per thread, resetting it before it is used
+   * by another spec, rather than constructing one for every spec. The objects are dropped when
+   * the suite which declared them finishes.
+   * @param ruleClass type of test object
+   * @param reset what to do to a test object before it is reused
+   */
+  RuleContext(final Class<T> ruleClass, final ThrowingConsumer<T> reset) {
+    this.ruleClass = RuleClassDescriptor.of(ruleClass);
+    this.fixedTestObject = null;
+    this.constructEveryTime = false;
+    this.pooledTestObjects = new ConcurrentHashMap<>();
+    this.reset = reset;
   }
 
   @SuppressWarnings("unchecked")
   RuleContext(final T object) {
-    this.ruleClass = (Class<T>) object.getClass();
-    this.testClass = new TestClass(this.ruleClass);
-    this.currentTestObject = object;
+    this.ruleClass = RuleClassDescriptor.of((Class<T>) object.getClass());
+    this.fixedTestObject = object;
     this.constructEveryTime = false;
+    this.pooledTestObjects = null;
+    this.reset = null;
   }
 
+  /**
+   * Get the test object of the running spec. It belongs to the thread running the spec, and any
+   * threads it starts, so specs running in parallel each see their own.
+   * @return the test object
+   */
   @Override
   public T get() {
-    return currentTestObject;
+    final T current = currentTestObject.get();
+
+    return current == null ? fixedTestObject : current;
   }
 
   /**
@@ -58,9 +82,16 @@ public class RuleContext<T> implements Supplier<T> {
    * @return the hook
    */
   Hook classHook() {
-    return (description, notifier,
-        block) -> withClassBlock(statementOf(block), fakeForJunit(description))
-            .evaluate();
+    return (description, notifier, block) -> {
+      try {
+        withClassBlock(statementOf(block), fakeForJunit(description)).evaluate();
+      } finally {
+        // the threads outlive the suite, so must not keep its objects
+        if (pooledTestObjects != null) {
+          pooledTestObjects.clear();
+        }
+      }
+    };
   }
 
   /**
@@ -68,44 +99,67 @@ public class RuleContext<T> implements Supplier<T> {
    * @return the hook
    */
   Hook methodHook() {
-    return (description, notifier, block) -> decorate(statementOf(block), fakeForJunit(description))
-        .evaluate();
+    return (description, notifier, block) -> {
+      final T testObject = testObjectForChild();
+      final T outer = currentTestObject.get();
+      currentTestObject.set(testObject);
+      try {
+        decorate(statementOf(block), testObject, fakeForJunit(description)).evaluate();
+      } finally {
+        restore(outer);
+      }
+    };
+  }
+
+  private void restore(final T outer) {
+    if (outer == null) {
+      currentTestObject.remove();
+    } else {
+      currentTestObject.set(outer);
+    }
   }
 
   /**
    * Add the method and test rules execution around a test method statement.
    * @param base the base statement
+   * @param testObject the test object for the child
    * @param description of the child
    * @return the statement to use to execute the child within the rules
    * @throws Throwable on error
    */
-  private Statement decorate(final Statement base, final Description description) throws Throwable {
-    if (constructEveryTime) {
-      constructTestObject();
+  private Statement decorate(final Statement base, final T testObject,
+      final Description description) throws Throwable {
+    return withTestRules(getTestRules(testObject),
+        withMethodRules(base, getMethodRules(testObject), testObject), description);
+  }
+
+  private T testObjectForChild() throws Throwable {
+    if (pooledTestObjects != null) {
+      return pooledTestObject();
     }
 
-    return withTestRules(getTestRules(currentTestObject),
-        withMethodRules(base, getMethodRules(currentTestObject)), description);
+    return constructEveryTime ? ruleClass.construct() : fixedTestObject;
   }
 
-  private void constructTestObject() throws Throwable {
-    ConstructorBlock<T> constructor = new ConstructorBlock<>(ruleClass);
-    constructor.run();
-    currentTestObject = constructor.get();
-  }
+  private T pooledTestObject() throws Throwable {
+    final Thread thread = Thread.currentThread();
+    final T pooled = pooledTestObjects.get(thread);
+    if (pooled == null) {
+      final T constructed = ruleClass.construct();
+      pooledTestObjects.put(thread, constructed);
 
-  private Statement withMethodRules(final Statement base, final List<MethodRule> methodRules) {
-    FrameworkMethod method = stubFrameworkMethod();
+      return constructed;
+    }
+    reset.accept(pooled);
 
-    return decorateWithMethodRules(base, methodRules, method);
+    return pooled;
   }
 
-  private Statement decorateWithMethodRules(final Statement base,
-      final List<MethodRule> methodRules,
-      final FrameworkMethod method) {
+  private Statement withMethodRules(final Statement base, final List<MethodRule> methodRules,
+      final T testObject) {
     Statement result = base;
     for (MethodRule each : methodRules) {
-      result = each.apply(result, method, currentTestObject);
+      result = each.apply(result, STUB_METHOD, testObject);
     }
 
     return result;
@@ -116,46 +170,24 @@ public class RuleContext<T> implements Supplier<T> {
     return testRules.isEmpty() ? statement : new RunRules(statement, testRules, childDescription);
   }
 
-  /**
-   * Find the method rules within the test class mixin.
-   * @param target the test case instance
-   * @return a list of TestRules that should be applied when executing this
-   *         test
-   */
-  private List<MethodRule> getMethodRules(final Object target) {
-    return Stream.concat(
-        testClass.getAnnotatedMethodValues(target, Rule.class, MethodRule.class).stream(),
-        testClass.getAnnotatedFieldValues(target, Rule.class, MethodRule.class).stream())
-        .collect(Collectors.toList());
-  }
-
-  /**
-   * Find the test rules within the test mixin.
-   * @param target the test case instance
-   * @return a list of TestRules that should be applied when executing this
-   *         test
-   */
-  private List<TestRule> getTestRules(final Object target) {
-    return Stream.concat(
-        testClass.getAnnotatedMethodValues(target, Rule.class, TestRule.class).stream(),
-        testClass.getAnnotatedFieldValues(target, Rule.class, TestRule.class).stream())
-        .collect(Collectors.toList());
+  private List<MethodRule> getMethodRules(final Object target) throws Throwable {
+    return ruleClass.getMethodRules(target);
   }
 
-  private boolean hasAnyTestOrMethodRules() {
-    return !testClass.getAnnotatedFields(Rule.class).isEmpty()
-        || !testClass.getAnnotatedMethods(Rule.class).isEmpty();
+  private List<TestRule> getTestRules(final Object target) throws Throwable {
+    return ruleClass.getTestRules(target);
   }
 
-  private Statement withClassBlock(final Statement base, final Description description) {
+  private Statement withClassBlock(final Statement base, final Description description)
+      throws Throwable {
     return withClassRules(withAfterClasses(withBeforeClasses(base)), description);
   }
 
   // In the case of multi-threaded execution, this will prevent two threads from
   // executing the same class junit.rule.
   private synchronized Statement withClassRules(final Statement base,
-      final Description description) {
-    List<TestRule> classRules = getClassRules();
+      final Description description) throws Throwable {
+    List<TestRule> classRules = ruleClass.getClassRules();
 
     return classRules.isEmpty() ? base : new RunRules(base, classRules, description);
   }
@@ -167,7 +199,7 @@ public class RuleContext<T> implements Supplier<T> {
   }
 
   private List<FrameworkMethod> getAfterClassMethods() {
-    return testClass.getAnnotatedMethods(AfterClass.class);
+    return ruleClass.getAfterClassMethods();
   }
 
   private Statement withBeforeClasses(final Statement base) {
@@ -177,14 +209,7 @@ public class RuleContext<T> implements Supplier<T> {
   }
 
   private List<FrameworkMethod> getBeforeClassMethods() {
-    return testClass.getAnnotatedMethods(BeforeClass.class);
-  }
-
-  private List<TestRule> getClassRules() {
-    return Stream.concat(
-        testClass.getAnnotatedMethodValues(null, ClassRule.class, TestRule.class).stream(),
-        testClass.getAnnotatedFieldValues(null, ClassRule.class, TestRule.class).stream())
-        .collect(Collectors.toList());
+    return ruleClass.getBeforeClassMethods();
   }
 
   /**
@@ -206,8 +231,7 @@ public class RuleContext<T> implements Supplier<T> {
    * @return true if there are rules
    */
   boolean hasAnyJUnitAnnotations() {
-    return hasAnyTestOrMethodRules()
-        || getClassRules().size() + getAfterClassMethods().size() + getBeforeClassMethods().size() > 0;
+    return ruleClass.hasAnyJUnitAnnotations();
   }
 
   /**
@@ -217,6 +241,6 @@ public class RuleContext<T> implements Supplier<T> {
    * @return a new description
    */
   private Description fakeForJunit(final Description description) {
-    return Description.createTestDescription(testClass.getJavaClass(), description.getMethodName());
+    return Description.createTestDescription(ruleClass.getRuleClass(), description.getMethodName());
   }
 }
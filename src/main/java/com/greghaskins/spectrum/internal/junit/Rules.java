@@ -1,5 +1,6 @@
 package com.greghaskins.spectrum.internal.junit;
 
+import com.greghaskins.spectrum.ThrowingConsumer;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
 
@@ -24,12 +25,7 @@ public interface Rules {
    * @return a supplier that provides access to the test object created
    */
   static <T> Supplier<T> applyRules(Class<T> rulesClass, Target target) {
-    RuleContext<T> context = new RuleContext<>(rulesClass);
-    target.addHook(context.classHook(), HookContext.AppliesTo.ONCE, HookContext.Precedence.LOCAL);
-    target.addHook(context.methodHook(), HookContext.AppliesTo.ATOMIC_ONLY,
-        HookContext.Precedence.LOCAL);
-
-    return context;
+    return addedAsHooks(new RuleContext<>(rulesClass), target);
   }
 
   /**
@@ -48,4 +44,34 @@ public interface Rules {
     }
   }
 
+  /**
+   * Apply JUnit rules by adding a hook to hook in the rules class.
+   * This runs the rules for each atomic, but reuses one object per thread, resetting it
+   * between atomics.
+   * @param rulesClass type of object to create
+   * @param reset what to do to an object before it is reused
+   * @param target the insertion point to add JUnit rules as hooks
+   * @param <T> type of object that will be built
+   * @return a supplier that provides access to the test object for the current thread
+   */
+  static <T> Supplier<T> applyPooledRules(Class<T> rulesClass, ThrowingConsumer<T> reset,
+      Target target) {
+    return addedAsHooks(new RuleContext<>(rulesClass, reset), target);
+  }
+
+  /**
+   * Add the hooks which apply the rules of a context.
+   * @param context the rules to apply
+   * @param target the insertion point to add JUnit rules as hooks
+   * @param <T> type of the test object
+   * @return the context, as a supplier of the test object
+   */
+  static <T> Supplier<T> addedAsHooks(RuleContext<T> context, Target target) {
+    target.addHook(context.classHook(), HookContext.AppliesTo.ONCE, HookContext.Precedence.LOCAL);
+    target.addHook(context.methodHook(), HookContext.AppliesTo.ATOMIC_ONLY,
+        HookContext.Precedence.LOCAL);
+
+    return context;
+  }
+
 }
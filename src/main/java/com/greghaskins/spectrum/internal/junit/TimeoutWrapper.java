@@ -1,41 +1,43 @@
 package com.greghaskins.spectrum.internal.junit;
 
 import static com.greghaskins.spectrum.internal.hooks.NonReportingHook.nonReportingHookFrom;
-import static com.greghaskins.spectrum.internal.junit.RuleContext.statementOf;
 
+import com.greghaskins.spectrum.internal.blocks.NotifyingBlock;
+import com.greghaskins.spectrum.internal.execution.Watchdog;
 import com.greghaskins.spectrum.internal.hooks.NonReportingHook;
+import com.greghaskins.spectrum.internal.reporting.TestEvents;
 
-import org.junit.internal.runners.statements.FailOnTimeout;
+import org.junit.runners.model.TestTimedOutException;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Wrap JUnit's timeout mechanism as a {@link NonReportingHook}.
+ * Provide JUnit's timeout behaviour as a {@link NonReportingHook}.
  */
 public interface TimeoutWrapper {
   /**
-   * Convert the timeout into a {@link NonReportingHook} which executes
-   * the inner inside a daemon thread, failing if it takes too long.
+   * Convert the timeout into a {@link NonReportingHook} which executes the inner on the
+   * current thread, interrupting it and failing with a {@link TestTimedOutException} if it
+   * takes too long.
    * @param timeout duration of the timeout
    * @return hook which implements the timeout
    */
   static NonReportingHook timeoutHook(Duration timeout) {
-    return nonReportingHookFrom(
-        (description, reporting, block) -> withAppliedTimeout(FailOnTimeout.builder(), timeout)
-            .build(statementOf(block))
-            .evaluate());
-  }
-
-  /**
-   * Apply a timeout expressed as a duration to a builder of a {@link FailOnTimeout} object.
-   * @param builder to modify
-   * @param timeout duration of the timeout
-   * @return the builder input - for fluent use.
-   */
-  static FailOnTimeout.Builder withAppliedTimeout(FailOnTimeout.Builder builder, Duration timeout) {
-    builder.withTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
-
-    return builder;
+    return nonReportingHookFrom((description, reporting, block) -> {
+      try {
+        Watchdog.runWithTimeout(block, timeout, hung -> {
+          // the spec's thread is stuck, so the failure is reported from the watchdog, and
+          // printed straight away in case the run is killed before the report is written
+          System.err.println("Spectrum timed out " + description.getDisplayName()
+              + ", which is stuck:");
+          hung.printStackTrace();
+          TestEvents.instance().timedOut(description, timeout);
+          NotifyingBlock.report(description, reporting, hung);
+        });
+      } catch (final TestTimedOutException timedOut) {
+        TestEvents.instance().timedOut(description, timeout);
+        throw timedOut;
+      }
+    });
   }
 }
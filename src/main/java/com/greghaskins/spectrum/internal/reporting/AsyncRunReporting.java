@@ -0,0 +1,294 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Passes events on from a single dispatcher thread, so that a slow listener does not hold up
+ * the specs. Events wait in a ring buffer of slots allocated up front, and are delivered in
+ * the order they were fired. A spec only waits when the buffer is full. Finishing the run
+ * delivers everything still waiting before it returns. Switched on by
+ * {@link Configure#ASYNC_REPORTING_PROPERTY}.
+ *
+ * <p>Anything the reporting throws is thrown again to the next spec which fires an event, so
+ * that JUnit's request to stop a run still stops it.</p>
+ */
+public final class AsyncRunReporting<T, F> extends RunReportingDecorator<T, F> {
+  static final int DEFAULT_CAPACITY = 1024;
+
+  private enum Kind {
+    TEST_IGNORED {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireTestIgnored(cast(event));
+      }
+    },
+    TEST_STARTED {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireTestStarted(cast(event));
+      }
+    },
+    TEST_FINISHED {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireTestFinished(cast(event));
+      }
+    },
+    TEST_FAILURE {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireTestFailure(cast(event));
+      }
+    },
+    TEST_ASSUMPTION_FAILED {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireTestAssumptionFailed(cast(event));
+      }
+    },
+    SUITE_STARTED {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireSuiteStarted(cast(event));
+      }
+    },
+    SUITE_FINISHED {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireSuiteFinished(cast(event));
+      }
+    },
+    BODY_STARTED {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireBodyStarted(cast(event));
+      }
+    },
+    BODY_FINISHED {
+      @Override
+      <T, F> void deliver(final RunReporting<T, F> reporting, final Object event) {
+        reporting.fireBodyFinished(cast(event));
+      }
+    };
+
+    abstract <T, F> void deliver(RunReporting<T, F> reporting, Object event);
+
+    @SuppressWarnings("unchecked")
+    private static <E> E cast(final Object event) {
+      return (E) event;
+    }
+  }
+
+  private final RunReporting<T, F> decoratee;
+  private final Kind[] kinds;
+  private final Object[] events;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = this.lock.newCondition();
+  private final Condition notFull = this.lock.newCondition();
+  private final Condition drained = this.lock.newCondition();
+  private final Thread dispatcher;
+
+  // guarded by the lock - the next slot to deliver, and the next slot to fill
+  private long head;
+  private long tail;
+  private boolean finished;
+  private Throwable thrown;
+
+  /**
+   * Construct the reporting and start its dispatcher thread.
+   * @param decoratee the reporting to deliver events to
+   * @param capacity how many events can wait before a spec has to
+   */
+  public AsyncRunReporting(final RunReporting<T, F> decoratee, final int capacity) {
+    super(decoratee);
+    this.decoratee = decoratee;
+    this.kinds = new Kind[capacity];
+    this.events = new Object[capacity];
+    this.dispatcher = new Thread(this::dispatch, "spectrum-reporting");
+    this.dispatcher.setDaemon(true);
+    this.dispatcher.start();
+  }
+
+  /**
+   * The capacity set by the system property.
+   * @return the capacity, or zero if reporting is not asynchronous
+   */
+  static int capacityFromSystemProperty() {
+    return RunReportingDecorators.topFromSystemProperty(Configure.ASYNC_REPORTING_PROPERTY,
+        DEFAULT_CAPACITY);
+  }
+
+  @Override
+  public void fireTestIgnored(final T description) {
+    publish(Kind.TEST_IGNORED, description);
+  }
+
+  @Override
+  public void fireTestStarted(final T description) {
+    publish(Kind.TEST_STARTED, description);
+  }
+
+  @Override
+  public void fireTestFinished(final T description) {
+    publish(Kind.TEST_FINISHED, description);
+  }
+
+  @Override
+  public void fireTestFailure(final F failure) {
+    publish(Kind.TEST_FAILURE, failure);
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final F failure) {
+    publish(Kind.TEST_ASSUMPTION_FAILED, failure);
+  }
+
+  @Override
+  public void fireSuiteStarted(final T description) {
+    publish(Kind.SUITE_STARTED, description);
+  }
+
+  @Override
+  public void fireSuiteFinished(final T description) {
+    publish(Kind.SUITE_FINISHED, description);
+  }
+
+  @Override
+  public void fireBodyStarted(final T description) {
+    publish(Kind.BODY_STARTED, description);
+  }
+
+  @Override
+  public void fireBodyFinished(final T description) {
+    publish(Kind.BODY_FINISHED, description);
+  }
+
+  /**
+   * Deliver every event still waiting, stop the dispatcher and then finish the run.
+   */
+  @Override
+  public void fireRunFinished() {
+    this.lock.lock();
+    try {
+      while (this.head != this.tail) {
+        this.drained.awaitUninterruptibly();
+      }
+      this.finished = true;
+      this.notEmpty.signal();
+    } finally {
+      this.lock.unlock();
+    }
+    joinDispatcher();
+    super.fireRunFinished();
+    rethrow();
+  }
+
+  private void publish(final Kind kind, final Object event) {
+    this.lock.lock();
+    try {
+      rethrow();
+      while (this.tail - this.head == this.kinds.length) {
+        this.notFull.awaitUninterruptibly();
+      }
+      final int slot = (int) (this.tail % this.kinds.length);
+      this.kinds[slot] = kind;
+      this.events[slot] = event;
+      this.tail++;
+      this.notEmpty.signal();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void dispatch() {
+    long from = 0;
+    while (true) {
+      final long to;
+      this.lock.lock();
+      try {
+        while (from == this.tail && !this.finished) {
+          this.notEmpty.awaitUninterruptibly();
+        }
+        if (from == this.tail) {
+          return;
+        }
+        to = this.tail;
+      } finally {
+        this.lock.unlock();
+      }
+
+      // the slots up to the tail are not reused until the head passes them
+      for (long next = from; next < to; next++) {
+        deliver((int) (next % this.kinds.length));
+      }
+      from = to;
+
+      this.lock.lock();
+      try {
+        this.head = to;
+        this.notFull.signalAll();
+        this.drained.signalAll();
+      } finally {
+        this.lock.unlock();
+      }
+    }
+  }
+
+  private void deliver(final int slot) {
+    final Kind kind = this.kinds[slot];
+    final Object event = this.events[slot];
+    this.kinds[slot] = null;
+    this.events[slot] = null;
+    try {
+      kind.deliver(this.decoratee, event);
+    } catch (final Throwable error) {
+      this.lock.lock();
+      try {
+        if (this.thrown == null) {
+          this.thrown = error;
+        }
+      } finally {
+        this.lock.unlock();
+      }
+    }
+  }
+
+  private void rethrow() {
+    this.lock.lock();
+    try {
+      final Throwable error = this.thrown;
+      this.thrown = null;
+      if (error instanceof RuntimeException) {
+        throw (RuntimeException) error;
+      }
+      if (error instanceof Error) {
+        throw (Error) error;
+      }
+      if (error != null) {
+        throw new IllegalStateException("Reporting failed", error);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void joinDispatcher() {
+    boolean interrupted = false;
+    while (this.dispatcher.isAlive()) {
+      try {
+        this.dispatcher.join();
+      } catch (final InterruptedException interruption) {
+        // the remaining events must still be delivered, so the interrupt is kept for later
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
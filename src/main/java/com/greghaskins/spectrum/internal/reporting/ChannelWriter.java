@@ -0,0 +1,147 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes text to a file through a fixed size buffer, so that however much is written, only the
+ * buffer is held in memory. A failure to write is reported once, after which the rest of the
+ * output is dropped rather than failing the run.
+ */
+final class ChannelWriter implements AutoCloseable {
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path file;
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private boolean failed;
+
+  private ChannelWriter(final Path file, final FileChannel channel) {
+    this.file = file;
+    this.channel = channel;
+  }
+
+  /**
+   * Open a file to add to the end of, creating it if need be.
+   * @param file to write to
+   * @return the writer, or null if the file cannot be opened
+   */
+  static ChannelWriter append(final Path file) {
+    return open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+  }
+
+  /**
+   * Open a file to replace, creating it if need be.
+   * @param file to write to
+   * @return the writer, or null if the file cannot be opened
+   */
+  static ChannelWriter replace(final Path file) {
+    return open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  private static ChannelWriter open(final Path file, final OpenOption... options) {
+    try {
+      final Path directory = file.toAbsolutePath().getParent();
+      if (directory != null) {
+        Files.createDirectories(directory);
+      }
+
+      return new ChannelWriter(file, FileChannel.open(file, options));
+    } catch (final IOException | UnsupportedOperationException error) {
+      System.err.println("Spectrum could not write results to " + file + ": " + error);
+
+      return null;
+    }
+  }
+
+  /**
+   * Add text to the buffer, writing the buffer out when it is full.
+   * @param text to write
+   */
+  synchronized void write(final CharSequence text) {
+    final byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > this.buffer.remaining()) {
+      flush();
+    }
+    if (bytes.length > this.buffer.capacity()) {
+      writeFully(ByteBuffer.wrap(bytes), -1);
+    } else {
+      this.buffer.put(bytes);
+    }
+  }
+
+  /**
+   * Where the next text written will be in the file.
+   * @return the position in bytes
+   */
+  synchronized long position() {
+    try {
+      return this.channel.position() + this.buffer.position();
+    } catch (final IOException error) {
+      failed(error);
+
+      return -1;
+    }
+  }
+
+  /**
+   * Overwrite text already in the file, after writing out the buffer.
+   * @param position where in the file to write it, from {@link #position()}
+   * @param text to write over what is there
+   */
+  synchronized void overwrite(final long position, final CharSequence text) {
+    flush();
+    if (position >= 0) {
+      writeFully(ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8)), position);
+    }
+  }
+
+  /**
+   * Write out the buffer.
+   */
+  synchronized void flush() {
+    this.buffer.flip();
+    writeFully(this.buffer, -1);
+    this.buffer.clear();
+  }
+
+  @Override
+  public synchronized void close() {
+    flush();
+    try {
+      this.channel.close();
+    } catch (final IOException error) {
+      failed(error);
+    }
+  }
+
+  private void writeFully(final ByteBuffer bytes, final long position) {
+    try {
+      long at = position;
+      while (bytes.hasRemaining() && !this.failed) {
+        if (at < 0) {
+          this.channel.write(bytes);
+        } else {
+          at += this.channel.write(bytes, at);
+        }
+      }
+    } catch (final IOException error) {
+      failed(error);
+    }
+  }
+
+  private void failed(final IOException error) {
+    if (!this.failed) {
+      this.failed = true;
+      System.err.println("Spectrum could not write results to " + this.file + ": " + error);
+    }
+  }
+}
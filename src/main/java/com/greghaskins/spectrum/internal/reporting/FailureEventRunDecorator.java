@@ -0,0 +1,40 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+/**
+ * Records each failure as a {@link TestEvents} event, once, on the thread which reported it. It
+ * goes outside any {@link AsyncRunReporting}, so the event carries the spec's thread and the time
+ * it failed, rather than those of the failure being passed on to the test framework.
+ */
+final class FailureEventRunDecorator extends RunReportingDecorator<Description, Failure> {
+  private final ReportedFailures reported = new ReportedFailures();
+
+  FailureEventRunDecorator(final RunReporting<Description, Failure> decoratee) {
+    super(decoratee);
+  }
+
+  @Override
+  public void fireTestFailure(final Failure failure) {
+    if (this.reported.isFirst(failure)) {
+      TestEvents.instance().failed(failure.getDescription(), failure.getException());
+    }
+    super.fireTestFailure(failure);
+  }
+
+  @Override
+  public void fireTestFinished(final Description description) {
+    this.reported.finished(description);
+    super.fireTestFinished(description);
+  }
+
+  @Override
+  public void fireSuiteFinished(final Description description) {
+    this.reported.finished(description);
+    super.fireSuiteFinished(description);
+  }
+}
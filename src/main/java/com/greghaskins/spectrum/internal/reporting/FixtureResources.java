@@ -0,0 +1,90 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.fixtures.FixtureRegistry;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The threads and open files which came into being while each shared fixture was built, kept
+ * until the fixture is closed. A fixture is held open on purpose after the suites using it have
+ * finished, so what it holds is not a leak of the suite which happened to build it.
+ */
+final class FixtureResources implements FixtureRegistry.Listener {
+  private static final FixtureResources INSTANCE = new FixtureResources();
+
+  private final Map<Object, Held> held = new ConcurrentHashMap<>();
+  private boolean installed;
+
+  private FixtureResources() {}
+
+  static FixtureResources instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Start watching fixtures being built, if this has not already been done.
+   * @return the resources held by fixtures
+   */
+  static synchronized FixtureResources install() {
+    if (!INSTANCE.installed) {
+      FixtureRegistry.instance().setListener(INSTANCE);
+      INSTANCE.installed = true;
+    }
+
+    return INSTANCE;
+  }
+
+  @Override
+  public Runnable building(final Object fixture) {
+    final ResourceSnapshot start = ResourceSnapshot.now();
+
+    return () -> {
+      final ResourceSnapshot end = ResourceSnapshot.now();
+      final Set<String> keys = new HashSet<>(end.threads.keySet());
+      keys.removeAll(start.threads.keySet());
+      if (start.openFiles != null && end.openFiles != null) {
+        final Set<String> files = new HashSet<>(end.fileKeys());
+        files.removeAll(start.fileKeys());
+        keys.addAll(files);
+      }
+      final long files = start.openFiles != null || start.openFileCount == ResourceSnapshot.UNKNOWN
+          ? 0 : Math.max(0, end.openFileCount - start.openFileCount);
+      this.held.put(fixture, new Held(keys, files));
+    };
+  }
+
+  @Override
+  public void closed(final Object fixture) {
+    this.held.remove(fixture);
+  }
+
+  /**
+   * Is the thread or file with this key held by a fixture which is still open.
+   * @param key of the thread or file, as given by {@link ResourceSnapshot}
+   * @return true if it is held by a fixture
+   */
+  boolean isHeld(final String key) {
+    return this.held.values().stream().anyMatch(held -> held.keys.contains(key));
+  }
+
+  /**
+   * How many files are held open by fixtures which are still open.
+   * @return the number of files
+   */
+  long heldFileCount() {
+    return this.held.values().stream().mapToLong(held -> held.fileCount).sum();
+  }
+
+  private static final class Held {
+    private final Set<String> keys;
+    private final long fileCount;
+
+    private Held(final Set<String> keys, final long fileCount) {
+      this.keys = keys;
+      this.fileCount = fileCount;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import org.junit.runner.Description;
+
+import java.time.Duration;
+
+/**
+ * {@link TestEvents} as JDK Flight Recorder events. This is only loaded, by name, once the
+ * Flight Recorder is known to be available.
+ */
+final class FlightRecorderTestEvents extends TestEvents {
+
+  private static final EventType SUITE = EventType.getEventType(SuiteEvent.class);
+  private static final EventType SPEC = EventType.getEventType(SpecEvent.class);
+  private static final EventType HOOK = EventType.getEventType(HookEvent.class);
+  private static final EventType TIMEOUT = EventType.getEventType(TimeoutEvent.class);
+  private static final EventType FAILURE = EventType.getEventType(FailureEvent.class);
+
+  @Override
+  public Span suite(final Description description) {
+    if (!SUITE.isEnabled()) {
+      return notRecorded();
+    }
+    final SuiteEvent event = new SuiteEvent();
+    event.test = description.getDisplayName();
+
+    return spanOf(event);
+  }
+
+  @Override
+  public Span spec(final Description description) {
+    if (!SPEC.isEnabled()) {
+      return notRecorded();
+    }
+    final SpecEvent event = new SpecEvent();
+    event.test = description.getDisplayName();
+
+    return spanOf(event);
+  }
+
+  @Override
+  public Span hook(final Description description, final HookContext hook) {
+    if (!HOOK.isEnabled()) {
+      return notRecorded();
+    }
+    final HookEvent event = new HookEvent();
+    event.test = description.getDisplayName();
+    event.precedence = hook.getPrecedence().name();
+    event.appliesTo = hook.getAppliesTo().name();
+    event.suite = hook.getOwner();
+
+    return spanOf(event);
+  }
+
+  @Override
+  public void timedOut(final Description description, final Duration timeout) {
+    if (TIMEOUT.isEnabled()) {
+      final TimeoutEvent event = new TimeoutEvent();
+      event.test = description.getDisplayName();
+      event.timeout = timeout.toNanos();
+      event.commit();
+    }
+  }
+
+  @Override
+  public void failed(final Description description, final Throwable failure) {
+    if (FAILURE.isEnabled()) {
+      final FailureEvent event = new FailureEvent();
+      event.test = description.getDisplayName();
+      event.exception = failure.getClass().getName();
+      event.message = failure.getMessage();
+      event.commit();
+    }
+  }
+
+  private static Span spanOf(final Event event) {
+    event.begin();
+
+    return event::commit;
+  }
+
+  @Name("spectrum.Suite")
+  @Label("Suite")
+  @Category("Spectrum")
+  static final class SuiteEvent extends Event {
+    @Label("Test")
+    String test;
+  }
+
+  @Name("spectrum.Spec")
+  @Label("Spec")
+  @Category("Spectrum")
+  static final class SpecEvent extends Event {
+    @Label("Test")
+    String test;
+  }
+
+  @Name("spectrum.Hook")
+  @Label("Hook")
+  @Category("Spectrum")
+  static final class HookEvent extends Event {
+    @Label("Test")
+    String test;
+
+    @Label("Precedence")
+    String precedence;
+
+    @Label("Applies To")
+    String appliesTo;
+
+    @Label("Declared In")
+    String suite;
+  }
+
+  @Name("spectrum.Timeout")
+  @Label("Timeout")
+  @Category("Spectrum")
+  static final class TimeoutEvent extends Event {
+    @Label("Test")
+    String test;
+
+    @Label("Timeout")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeout;
+  }
+
+  @Name("spectrum.Failure")
+  @Label("Failure")
+  @Category("Spectrum")
+  static final class FailureEvent extends Event {
+    @Label("Test")
+    String test;
+
+    @Label("Exception")
+    String exception;
+
+    @Label("Message")
+    String message;
+  }
+}
@@ -0,0 +1,149 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Times every hook declared while {@link Configure#HOOK_PROFILE_PROPERTY} is set, and reports
+ * the slowest of them when the run finishes. Each hook is named after the function which
+ * declared it, where in the source it was declared and the suite it was declared in.
+ */
+public final class HookProfile {
+  static final int DEFAULT_TOP_HOOKS = 20;
+
+  private static final String SPECTRUM_PACKAGE = "com.greghaskins.spectrum.";
+  private static final HookProfile INSTANCE = new HookProfile();
+
+  private final List<ProfiledHook> hooks = new ArrayList<>();
+
+  private HookProfile() {}
+
+  public static HookProfile instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Is hook profiling switched on.
+   * @return true if hooks should be profiled
+   */
+  public static boolean isEnabledBySystemProperty() {
+    return topHooksFromSystemProperty() > 0;
+  }
+
+  /**
+   * How many hooks to report, as set by the system property. A number sets it, any other value
+   * but {@code false} uses the default.
+   * @return the number of hooks to report, or zero if profiling is switched off
+   */
+  static int topHooksFromSystemProperty() {
+    return RunReportingDecorators.topFromSystemProperty(Configure.HOOK_PROFILE_PROPERTY,
+        DEFAULT_TOP_HOOKS);
+  }
+
+  /**
+   * Wrap a hook being declared so it is timed. This must be called from the declaration, so
+   * that the declaring source can be found.
+   * @param hook the hook being declared
+   * @param appliesTo how the hook is applied
+   * @param suitePath names of the suites it is declared in, starting with the test class
+   * @return the hook to add in its place
+   */
+  public Hook profile(final Hook hook, final AppliesTo appliesTo, final List<String> suitePath) {
+    final String name = declaringFunction() + " (" + appliesTo.name().toLowerCase(Locale.ROOT)
+        + ") at " + declaringSource() + " in " + String.join(" > ", suitePath);
+    final ProfiledHook profiled = new ProfiledHook(hook, suitePath.get(0), name);
+    synchronized (this.hooks) {
+      this.hooks.add(profiled);
+    }
+
+    return profiled;
+  }
+
+  /**
+   * Print the hooks of a run which took the most time, then forget them.
+   * @param run the name of the run, which is the first of the suite path of its hooks
+   * @param top how many hooks to print
+   * @param out where to print them
+   */
+  public void report(final String run, final int top, final PrintStream out) {
+    final List<ProfiledHook> ofRun = removeHooksOf(run);
+    ofRun.sort(Comparator.comparingLong(ProfiledHook::getTotalNanos).reversed());
+
+    out.println(String.format("Spectrum hook profile of %s - top %d of %d hooks by total time",
+        run, Math.min(top, ofRun.size()), ofRun.size()));
+    out.println(String.format("%12s %8s %10s %10s  %s", "total ms", "calls", "mean ms", "max ms",
+        "hook"));
+    ofRun.stream().limit(top).forEach(hook -> out.println(String.format(Locale.ROOT,
+        "%12.3f %8d %10.3f %10.3f  %s", millis(hook.getTotalNanos()), hook.getCalls(),
+        hook.getCalls() == 0 ? 0.0 : millis(hook.getTotalNanos()) / hook.getCalls(),
+        millis(hook.getMaxNanos()), hook.getName())));
+  }
+
+  List<ProfiledHook> removeHooksOf(final String run) {
+    final List<ProfiledHook> ofRun = new ArrayList<>();
+    synchronized (this.hooks) {
+      final Iterator<ProfiledHook> iterator = this.hooks.iterator();
+      while (iterator.hasNext()) {
+        final ProfiledHook hook = iterator.next();
+        if (hook.getRun().equals(run)) {
+          ofRun.add(hook);
+          iterator.remove();
+        }
+      }
+    }
+
+    return ofRun;
+  }
+
+  private static double millis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  /**
+   * The Spectrum function the user called, which is the last frame in Spectrum before the user's
+   * code.
+   */
+  private static String declaringFunction() {
+    String function = "hook";
+    for (StackTraceElement frame : new Throwable().getStackTrace()) {
+      if (!isSpectrum(frame)) {
+        break;
+      }
+      if (!frame.getMethodName().startsWith("lambda$")) {
+        function = frame.getMethodName();
+      }
+    }
+
+    return function;
+  }
+
+  private static String declaringSource() {
+    for (StackTraceElement frame : new Throwable().getStackTrace()) {
+      if (!isSpectrum(frame) && !isPlatform(frame)) {
+        return frame.getFileName() + ":" + frame.getLineNumber();
+      }
+    }
+
+    return "unknown source";
+  }
+
+  private static boolean isSpectrum(final StackTraceElement frame) {
+    return frame.getClassName().startsWith(SPECTRUM_PACKAGE);
+  }
+
+  private static boolean isPlatform(final StackTraceElement frame) {
+    final String className = frame.getClassName();
+
+    return className.startsWith("java.") || className.startsWith("javax.")
+        || className.startsWith("sun.") || className.startsWith("jdk.")
+        || className.startsWith("org.junit.");
+  }
+}
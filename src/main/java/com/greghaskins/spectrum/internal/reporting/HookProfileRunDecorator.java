@@ -0,0 +1,39 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.io.PrintStream;
+
+/**
+ * Prints the {@link HookProfile} of the run when it finishes.
+ */
+public final class HookProfileRunDecorator extends RunReportingDecorator<Description, Failure> {
+  private final Description run;
+  private final int top;
+  private final PrintStream out;
+
+  /**
+   * Construct the decorator.
+   * @param decoratee the reporting to pass events on to
+   * @param run description of the whole run, normally the test class
+   * @param top how many hooks to report
+   * @param out where to print the report
+   */
+  public HookProfileRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final Description run, final int top, final PrintStream out) {
+    super(decoratee);
+    this.run = run;
+    this.top = top;
+    this.out = out;
+  }
+
+  @Override
+  public void fireRunFinished() {
+    super.fireRunFinished();
+    HookProfile.instance().report(this.run.getDisplayName(), this.top, this.out);
+  }
+}
@@ -0,0 +1,216 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes a JUnit XML report of the run as it happens, one {@code testcase} as each test
+ * finishes, rather than building the report in memory at the end. The counts in the
+ * {@code testsuite} element are written as placeholders of a fixed width, and are filled in
+ * where they are when the run finishes. Only the tests which are running are held in memory.
+ * Switched on by {@link Configure#XML_RESULTS_DIRECTORY_PROPERTY}.
+ */
+public final class JunitXmlRunDecorator extends RunReportingDecorator<Description, Failure> {
+  private static final String COUNTS_FORMAT =
+      "tests=\"%010d\" skipped=\"%010d\" failures=\"%010d\" errors=\"%010d\" time=\"%012.3f\"";
+
+  private final ChannelWriter writer;
+  private final long countsPosition;
+  private final long runStart = System.nanoTime();
+  private final AtomicLong tests = new AtomicLong();
+  private final AtomicLong skipped = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong errors = new AtomicLong();
+  private final ReportedFailures reported = new ReportedFailures();
+
+  // keyed by identity, as specs in different suites can have equal descriptions
+  private final Map<Description, TestCase> running =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+
+  /**
+   * Construct the decorator.
+   * @param decoratee the reporting to pass events on to
+   * @param run description of the whole run, normally the test class
+   * @param directory where to write the report, which is named after the run
+   */
+  public JunitXmlRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final Description run, final Path directory) {
+    super(decoratee);
+    this.writer = ChannelWriter.replace(directory.resolve("TEST-" + fileName(run) + ".xml"));
+    if (this.writer == null) {
+      this.countsPosition = -1;
+    } else {
+      this.writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite name=\""
+          + escape(run.getDisplayName(), true) + "\" ");
+      this.countsPosition = this.writer.position();
+      this.writer.write(counts() + " timestamp=\""
+          + Instant.now().truncatedTo(ChronoUnit.SECONDS) + "\">\n");
+    }
+  }
+
+  @Override
+  public void fireTestIgnored(final Description description) {
+    super.fireTestIgnored(description);
+    this.tests.incrementAndGet();
+    this.skipped.incrementAndGet();
+    write(new TestCase(description).append("<skipped/>").end());
+  }
+
+  @Override
+  public void fireTestStarted(final Description description) {
+    super.fireTestStarted(description);
+    this.tests.incrementAndGet();
+    this.running.put(description, new TestCase(description));
+  }
+
+  @Override
+  public void fireTestFinished(final Description description) {
+    super.fireTestFinished(description);
+    this.reported.finished(description);
+    final TestCase testCase = this.running.remove(description);
+    if (testCase != null) {
+      write(testCase.end());
+    }
+  }
+
+  @Override
+  public void fireTestFailure(final Failure failure) {
+    super.fireTestFailure(failure);
+    if (this.reported.isFirst(failure)) {
+      final boolean assertion = failure.getException() instanceof AssertionError;
+      (assertion ? this.failures : this.errors).incrementAndGet();
+      addTo(failure, assertion ? "failure" : "error");
+    }
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final Failure failure) {
+    super.fireTestAssumptionFailed(failure);
+    if (this.reported.isFirst(failure)) {
+      this.skipped.incrementAndGet();
+      addTo(failure, "skipped");
+    }
+  }
+
+  @Override
+  public void fireSuiteFinished(final Description description) {
+    super.fireSuiteFinished(description);
+    this.reported.finished(description);
+  }
+
+  @Override
+  public void fireRunFinished() {
+    super.fireRunFinished();
+    if (this.writer != null) {
+      this.writer.write("</testsuite>\n");
+      this.writer.overwrite(this.countsPosition, counts());
+      this.writer.close();
+    }
+  }
+
+  private void addTo(final Failure failure, final String element) {
+    final String failed = "<" + element + " message=\""
+        + escape(String.valueOf(failure.getMessage()), true) + "\" type=\""
+        + escape(failure.getException().getClass().getName(), true) + "\">"
+        + escape(failure.getTrace(), false) + "</" + element + ">";
+    final TestCase testCase = this.running.get(failure.getDescription());
+    if (testCase != null) {
+      testCase.append(failed);
+    } else {
+      // a suite failed, perhaps in a hook, so it is reported as a test case of its own
+      this.tests.incrementAndGet();
+      write(new TestCase(failure.getDescription()).append(failed).end());
+    }
+  }
+
+  private String counts() {
+    return String.format(Locale.ROOT, COUNTS_FORMAT, this.tests.get(), this.skipped.get(),
+        this.failures.get(), this.errors.get(), (System.nanoTime() - this.runStart) / 1e9);
+  }
+
+  private void write(final String text) {
+    if (this.writer != null) {
+      this.writer.write(text);
+    }
+  }
+
+  private static String fileName(final Description run) {
+    return run.getDisplayName().replaceAll("[^A-Za-z0-9._$-]", "_");
+  }
+
+  static String escape(final String value, final boolean attribute) {
+    final StringBuilder escaped = new StringBuilder(value.length());
+    for (int index = 0; index < value.length(); index++) {
+      final char character = value.charAt(index);
+      switch (character) {
+        case '&':
+          escaped.append("&amp;");
+          break;
+        case '<':
+          escaped.append("&lt;");
+          break;
+        case '>':
+          escaped.append("&gt;");
+          break;
+        case '"':
+          escaped.append(attribute ? "&quot;" : "\"");
+          break;
+        case '\n':
+        case '\r':
+        case '\t':
+          escaped.append(attribute ? "&#" + (int) character + ";" : String.valueOf(character));
+          break;
+        default:
+          // characters which XML 1.0 does not allow at all
+          escaped.append(character < ' ' || character >= 0xFFFE ? '?' : character);
+      }
+    }
+
+    return escaped.toString();
+  }
+
+  /**
+   * A test case being written, with whatever has failed so far.
+   */
+  private static final class TestCase {
+    private final Description description;
+    private final long started = System.nanoTime();
+    private final StringBuilder body = new StringBuilder();
+
+    private TestCase(final Description description) {
+      this.description = description;
+    }
+
+    synchronized TestCase append(final String element) {
+      this.body.append("\n    ").append(element);
+
+      return this;
+    }
+
+    synchronized String end() {
+      final String name = this.description.getMethodName() == null
+          ? this.description.getDisplayName() : this.description.getMethodName();
+      final String className = this.description.getClassName() == null
+          ? "" : this.description.getClassName();
+      final String start = String.format(Locale.ROOT,
+          "  <testcase name=\"%s\" classname=\"%s\" time=\"%.3f\"", escape(name, true),
+          escape(className, true), (System.nanoTime() - this.started) / 1e9);
+
+      return this.body.length() == 0 ? start + "/>\n"
+          : start + ">" + this.body + "\n  </testcase>\n";
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the non-daemon threads and open files from before each suite's hooks to after them,
+ * and reports any left behind, either as a warning or as a failure of the suite. A leak is only
+ * reported by the innermost suite it was found in. Threads and files which came into being while
+ * a shared fixture was built are the fixture's until it is closed, and are not reported. Switched
+ * on by
+ * {@link Configure#LEAK_DETECTION_PROPERTY}.
+ */
+public final class LeakDetectingRunDecorator extends RunReportingDecorator<Description, Failure> {
+  static final long GRACE_MILLIS = 200;
+
+  /**
+   * What to do when a suite leaks.
+   */
+  public enum Action {
+    WARN, FAIL;
+
+    /**
+     * The action set by the system property.
+     * @return the action, or null if leak detection is switched off
+     */
+    static Action fromSystemProperty() {
+      final String value = System.getProperty(Configure.LEAK_DETECTION_PROPERTY);
+      if (value == null || value.isEmpty() || value.equalsIgnoreCase("false")) {
+        return null;
+      }
+
+      return value.trim().equalsIgnoreCase("fail") ? FAIL : WARN;
+    }
+  }
+
+  private final Action action;
+  private final PrintStream out;
+
+  // keyed by identity, as suites in different parents can have equal descriptions
+  private final Map<Description, ResourceSnapshot> before =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private final Set<String> reported = ConcurrentHashMap.newKeySet();
+  private final FixtureResources fixtures = FixtureResources.install();
+
+  /**
+   * Construct the decorator.
+   * @param decoratee the reporting to pass events on to
+   * @param action what to do about a leak
+   * @param out where to print warnings
+   */
+  public LeakDetectingRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final Action action, final PrintStream out) {
+    super(decoratee);
+    this.action = action;
+    this.out = out;
+  }
+
+  @Override
+  public void fireSuiteStarted(final Description description) {
+    super.fireSuiteStarted(description);
+    this.before.put(description, ResourceSnapshot.now());
+  }
+
+  @Override
+  public void fireSuiteFinished(final Description description) {
+    final ResourceSnapshot start = this.before.remove(description);
+    if (start != null) {
+      final String leaks = leaksSince(start);
+      if (leaks != null) {
+        report(description, leaks);
+      }
+    }
+    super.fireSuiteFinished(description);
+  }
+
+  private String leaksSince(final ResourceSnapshot start) {
+    ResourceSnapshot end = ResourceSnapshot.now();
+    if (!newThreads(start, end).isEmpty()) {
+      // threads which have been told to stop may take a moment to do so
+      awaitEnd(newThreads(start, end));
+      end = ResourceSnapshot.now();
+    }
+
+    final List<String> leaks = new ArrayList<>();
+    newThreads(start, end).stream()
+        .filter(thread -> isNewLeak(ResourceSnapshot.key(thread)))
+        .forEach(thread -> leaks.add("thread \"" + thread.getName() + "\""));
+    if (start.openFiles != null && end.openFiles != null) {
+      end.openFiles.entrySet().stream()
+          .filter(file -> !file.getValue().equals(start.openFiles.get(file.getKey())))
+          .filter(file -> isNewLeak(ResourceSnapshot.key(file.getKey(), file.getValue())))
+          .forEach(file -> leaks.add("file " + file.getValue() + " (fd " + file.getKey() + ")"));
+    } else if (start.openFileCount != ResourceSnapshot.UNKNOWN
+        && end.openFileCount > start.openFileCount) {
+      leaks.add((end.openFileCount - start.openFileCount) + " file descriptors");
+    }
+
+    return leaks.isEmpty() ? null : String.join(", ", leaks);
+  }
+
+  private boolean isNewLeak(final String key) {
+    return !this.fixtures.isHeld(key) && this.reported.add(key);
+  }
+
+  private static List<Thread> newThreads(final ResourceSnapshot start,
+      final ResourceSnapshot end) {
+    return end.threads.entrySet().stream()
+        .filter(thread -> !start.threads.containsKey(thread.getKey()))
+        .map(Map.Entry::getValue)
+        .collect(Collectors.toList());
+  }
+
+  private static void awaitEnd(final List<Thread> threads) {
+    final long deadline = System.currentTimeMillis() + GRACE_MILLIS;
+    try {
+      for (Thread thread : threads) {
+        final long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          return;
+        }
+        thread.join(remaining);
+      }
+    } catch (final InterruptedException interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void report(final Description description, final String leaks) {
+    final String message = "Suite left behind " + leaks;
+    if (this.action == Action.FAIL) {
+      super.fireTestFailure(new Failure(description, new AssertionError(message)));
+    } else {
+      this.out.println(String.format(Locale.ROOT, "Spectrum warning: %s - %s",
+          description.getDisplayName(), message));
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import static com.greghaskins.spectrum.internal.reporting.TimingFile.jsonString;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends each event of the run to a file as it happens, as one line of JSON per event. Only
+ * the start times of the suites and tests which are running are held, so memory does not grow
+ * with the size of the run. Switched on by {@link Configure#NDJSON_RESULTS_PROPERTY}.
+ */
+public final class NdjsonRunDecorator extends RunReportingDecorator<Description, Failure> {
+  private final String run;
+  private final ChannelWriter writer;
+  private final AtomicLong tests = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong ignored = new AtomicLong();
+  private final ReportedFailures reported = new ReportedFailures();
+
+  // keyed by identity, as specs in different suites can have equal descriptions
+  // a composite test is both, so they are kept apart
+  private final Map<Description, Long> runningTests =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private final Map<Description, Long> runningSuites =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+
+  /**
+   * Construct the decorator.
+   * @param decoratee the reporting to pass events on to
+   * @param run description of the whole run, normally the test class
+   * @param file the file to append to, which runs of other test classes may share
+   */
+  public NdjsonRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final Description run, final Path file) {
+    super(decoratee);
+    this.run = jsonString(run.getDisplayName());
+    this.writer = ChannelWriter.append(file);
+  }
+
+  @Override
+  public void fireTestIgnored(final Description description) {
+    super.fireTestIgnored(description);
+    this.ignored.incrementAndGet();
+    write(event("test_ignored", description).append('}'));
+  }
+
+  @Override
+  public void fireTestStarted(final Description description) {
+    super.fireTestStarted(description);
+    this.tests.incrementAndGet();
+    this.runningTests.put(description, System.nanoTime());
+    write(event("test_started", description).append('}'));
+  }
+
+  @Override
+  public void fireTestFinished(final Description description) {
+    super.fireTestFinished(description);
+    write(finished("test_finished", description, this.runningTests));
+  }
+
+  @Override
+  public void fireTestFailure(final Failure failure) {
+    super.fireTestFailure(failure);
+    if (this.reported.isFirst(failure)) {
+      this.failures.incrementAndGet();
+      write(failure("test_failure", failure));
+    }
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final Failure failure) {
+    super.fireTestAssumptionFailed(failure);
+    if (this.reported.isFirst(failure)) {
+      write(failure("test_assumption_failed", failure));
+    }
+  }
+
+  @Override
+  public void fireSuiteStarted(final Description description) {
+    super.fireSuiteStarted(description);
+    this.runningSuites.put(description, System.nanoTime());
+    write(event("suite_started", description).append('}'));
+  }
+
+  @Override
+  public void fireSuiteFinished(final Description description) {
+    super.fireSuiteFinished(description);
+    write(finished("suite_finished", description, this.runningSuites));
+  }
+
+  @Override
+  public void fireRunFinished() {
+    super.fireRunFinished();
+    if (this.writer != null) {
+      write(new StringBuilder("{\"event\":\"run_finished\",\"run\":").append(this.run)
+          .append(",\"time\":").append(System.currentTimeMillis())
+          .append(",\"tests\":").append(this.tests.get())
+          .append(",\"failures\":").append(this.failures.get())
+          .append(",\"ignored\":").append(this.ignored.get()).append('}'));
+      this.writer.close();
+    }
+  }
+
+  private StringBuilder event(final String event, final Description description) {
+    return new StringBuilder("{\"event\":\"").append(event).append("\",\"run\":")
+        .append(this.run).append(",\"name\":").append(jsonString(description.getDisplayName()))
+        .append(",\"time\":").append(System.currentTimeMillis());
+  }
+
+  private StringBuilder finished(final String event, final Description description,
+      final Map<Description, Long> running) {
+    final StringBuilder line = event(event, description);
+    this.reported.finished(description);
+    final Long started = running.remove(description);
+    if (started != null) {
+      line.append(",\"duration_ns\":").append(System.nanoTime() - started);
+    }
+
+    return line.append('}');
+  }
+
+  private StringBuilder failure(final String event, final Failure failure) {
+    return event(event, failure.getDescription())
+        .append(",\"exception\":").append(jsonString(failure.getException().getClass().getName()))
+        .append(",\"message\":").append(jsonString(String.valueOf(failure.getMessage())))
+        .append(",\"trace\":").append(jsonString(failure.getTrace())).append('}');
+  }
+
+  private void write(final StringBuilder line) {
+    if (this.writer != null) {
+      this.writer.write(line.append('\n'));
+    }
+  }
+}
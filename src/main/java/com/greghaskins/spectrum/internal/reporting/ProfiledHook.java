@@ -0,0 +1,96 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.hooks.Hook;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A hook which times another. Only the hook's own time counts, not the time spent running the
+ * block inside it, so a hook around a slow spec is not blamed for the spec.
+ */
+final class ProfiledHook implements Hook {
+  private final Hook hook;
+  private final String run;
+  private final String name;
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  ProfiledHook(final Hook hook, final String run, final String name) {
+    this.hook = hook;
+    this.run = run;
+    this.name = name;
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) throws Throwable {
+    final InnerBlock inner = new InnerBlock(block);
+    final long start = System.nanoTime();
+    try {
+      this.hook.accept(description, reporting, inner);
+    } finally {
+      record(System.nanoTime() - start - inner.nanos);
+    }
+  }
+
+  @Override
+  public boolean requiresUnreportedInnerBlock() {
+    return this.hook.requiresUnreportedInnerBlock();
+  }
+
+  private void record(final long nanos) {
+    this.calls.increment();
+    this.totalNanos.add(nanos);
+    this.maxNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  String getRun() {
+    return this.run;
+  }
+
+  String getName() {
+    return this.name;
+  }
+
+  long getCalls() {
+    return this.calls.sum();
+  }
+
+  long getTotalNanos() {
+    return this.totalNanos.sum();
+  }
+
+  long getMaxNanos() {
+    return this.maxNanos.get();
+  }
+
+  /**
+   * The block inside the hook, which keeps track of how long it takes, however many times the
+   * hook runs it.
+   */
+  private static final class InnerBlock implements Block {
+    private final Block block;
+    private long nanos;
+
+    private InnerBlock(final Block block) {
+      this.block = block;
+    }
+
+    @Override
+    public void run() throws Throwable {
+      final long start = System.nanoTime();
+      try {
+        this.block.run();
+      } finally {
+        this.nanos += System.nanoTime() - start;
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The failures already reported for each suite or test which is still running. Hooks report
+ * the failure of the block inside them as well as passing it on, so the same failure can reach
+ * reporting more than once. Forgetting each suite or test when it finishes keeps this as small
+ * as the number running.
+ */
+final class ReportedFailures {
+  private final Map<Description, Set<Throwable>> reported = new IdentityHashMap<>();
+
+  /**
+   * Is this the first time the failure has been reported.
+   * @param failure the failure being reported
+   * @return true if it has not been reported before
+   */
+  synchronized boolean isFirst(final Failure failure) {
+    return this.reported
+        .computeIfAbsent(failure.getDescription(),
+            description -> Collections.newSetFromMap(new IdentityHashMap<>()))
+        .add(failure.getException());
+  }
+
+  /**
+   * Forget the failures of a suite or test which has finished.
+   * @param description the suite or test
+   */
+  synchronized void finished(final Description description) {
+    this.reported.remove(description);
+  }
+}
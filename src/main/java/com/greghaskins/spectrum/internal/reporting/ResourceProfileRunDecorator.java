@@ -0,0 +1,108 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures the CPU time, allocation and garbage collection of each test, from when it starts to
+ * when it finishes, including its hooks. When the run finishes, the tests which allocated the
+ * most are printed. Each test runs on one thread, so its CPU time and allocation are its own,
+ * but garbage collection is counted for the whole JVM while the test runs, so tests running in
+ * parallel share it.
+ */
+public final class ResourceProfileRunDecorator
+    extends RunReportingDecorator<Description, Failure> {
+  static final int DEFAULT_TOP_TESTS = 20;
+
+  private final Description run;
+  private final int top;
+  private final PrintStream out;
+
+  // keyed by identity, as specs in different suites can have equal descriptions
+  private final Map<Description, ResourceUsage> started =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private final List<Usage> finished = Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Construct the decorator.
+   * @param decoratee the reporting to pass events on to
+   * @param run description of the whole run, normally the test class
+   * @param top how many tests to report
+   * @param out where to print the report
+   */
+  public ResourceProfileRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final Description run, final int top, final PrintStream out) {
+    super(decoratee);
+    this.run = run;
+    this.top = top;
+    this.out = out;
+  }
+
+  @Override
+  public void fireTestStarted(final Description description) {
+    super.fireTestStarted(description);
+    this.started.put(description, ResourceUsage.ofCurrentThread());
+  }
+
+  @Override
+  public void fireTestFinished(final Description description) {
+    final ResourceUsage end = ResourceUsage.ofCurrentThread();
+    final ResourceUsage start = this.started.remove(description);
+    if (start != null) {
+      this.finished.add(new Usage(description, end.since(start)));
+    }
+    super.fireTestFinished(description);
+  }
+
+  @Override
+  public void fireRunFinished() {
+    super.fireRunFinished();
+    final List<Usage> ordered;
+    synchronized (this.finished) {
+      ordered = new ArrayList<>(this.finished);
+    }
+    ordered.sort(Comparator.comparingLong((Usage usage) -> usage.usage.allocatedBytes)
+        .thenComparingLong(usage -> usage.usage.cpuNanos).reversed());
+    report(ordered);
+  }
+
+  private void report(final List<Usage> ordered) {
+    this.out.println(String.format(
+        "Spectrum resource profile of %s - top %d of %d tests by allocation",
+        this.run.getDisplayName(), Math.min(this.top, ordered.size()), ordered.size()));
+    this.out.println(String.format("%12s %12s %10s %8s %10s  %s", "alloc MB", "cpu ms", "gc ms",
+        "gcs", "wall ms", "test"));
+    ordered.stream().limit(this.top).forEach(usage -> this.out.println(String.format(Locale.ROOT,
+        "%12s %12s %10d %8d %10.3f  %s",
+        measured(usage.usage.allocatedBytes, 1024.0 * 1024.0),
+        measured(usage.usage.cpuNanos, 1_000_000.0), usage.usage.gcMillis, usage.usage.gcCount,
+        usage.usage.wallNanos / 1_000_000.0, usage.description.getDisplayName())));
+  }
+
+  private static String measured(final long value, final double unit) {
+    return value == ResourceUsage.UNAVAILABLE
+        ? "-" : String.format(Locale.ROOT, "%.3f", value / unit);
+  }
+
+  private static final class Usage {
+    final Description description;
+    final ResourceUsage usage;
+
+    private Usage(final Description description, final ResourceUsage usage) {
+      this.description = description;
+      this.usage = usage;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The live non-daemon threads and open file descriptors of the JVM at one moment. Open files
+ * are listed from {@code /proc/self/fd} where there is one, otherwise only their number is
+ * known, from the operating system's MXBean, less those held by shared fixtures. Threads and
+ * files are known by keys which do not keep the thread itself reachable.
+ */
+final class ResourceSnapshot {
+  static final long UNKNOWN = -1;
+
+  private static final Path OPEN_FILES = Paths.get("/proc/self/fd");
+
+  final Map<String, Thread> threads;
+  final Map<String, String> openFiles;
+  final long openFileCount;
+
+  private ResourceSnapshot(final Map<String, Thread> threads, final Map<String, String> openFiles,
+      final long openFileCount) {
+    this.threads = threads;
+    this.openFiles = openFiles;
+    this.openFileCount = openFileCount;
+  }
+
+  static ResourceSnapshot now() {
+    final Map<String, Thread> threads = new HashMap<>();
+    for (Thread thread : allThreads()) {
+      if (!thread.isDaemon() && thread.isAlive()) {
+        threads.put(key(thread), thread);
+      }
+    }
+    final Map<String, String> openFiles = openFiles();
+
+    return new ResourceSnapshot(threads, openFiles,
+        openFiles == null ? openFileCount() : openFiles.size());
+  }
+
+  private static long openFileCount() {
+    final long count = systemOpenFileCount();
+
+    return count == UNKNOWN ? UNKNOWN : count - FixtureResources.instance().heldFileCount();
+  }
+
+  /**
+   * The key of a thread, which is not reused by another thread while this one is alive.
+   * @param thread the thread
+   * @return its key
+   */
+  static String key(final Thread thread) {
+    return "thread " + thread.getId() + " " + thread.getName();
+  }
+
+  /**
+   * The key of an open file.
+   * @param descriptor the file descriptor
+   * @param target what it refers to
+   * @return its key
+   */
+  static String key(final String descriptor, final String target) {
+    return "file " + descriptor + " -> " + target;
+  }
+
+  /**
+   * The keys of the open files, if they are known.
+   * @return the keys, or an empty set
+   */
+  Set<String> fileKeys() {
+    if (this.openFiles == null) {
+      return Collections.emptySet();
+    }
+
+    return this.openFiles.entrySet().stream()
+        .map(file -> key(file.getKey(), file.getValue()))
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Every thread in the JVM, found through the thread groups so that, unlike
+   * {@link Thread#getAllStackTraces()}, no stacks are walked.
+   */
+  private static Thread[] allThreads() {
+    ThreadGroup root = Thread.currentThread().getThreadGroup();
+    while (root.getParent() != null) {
+      root = root.getParent();
+    }
+    Thread[] threads = new Thread[root.activeCount() + 16];
+    int count = root.enumerate(threads, true);
+    while (count == threads.length) {
+      threads = new Thread[threads.length * 2];
+      count = root.enumerate(threads, true);
+    }
+
+    return Arrays.copyOf(threads, count);
+  }
+
+  /**
+   * The open files, by descriptor, with what each one refers to. The directory opened to list
+   * them, and the jars the JVM opens as it loads classes, are left out.
+   */
+  private static Map<String, String> openFiles() {
+    if (!Files.isDirectory(OPEN_FILES)) {
+      return null;
+    }
+    final Map<String, String> openFiles = new TreeMap<>();
+    try (DirectoryStream<Path> descriptors = Files.newDirectoryStream(OPEN_FILES)) {
+      for (Path descriptor : descriptors) {
+        try {
+          final String target = Files.readSymbolicLink(descriptor).toString();
+          if (!isIgnored(target)) {
+            openFiles.put(descriptor.getFileName().toString(), target);
+          }
+        } catch (final IOException closedWhileListing) {
+          // not open any more
+        }
+      }
+    } catch (final IOException | SecurityException unreadable) {
+      return null;
+    }
+
+    return Collections.unmodifiableMap(openFiles);
+  }
+
+  private static boolean isIgnored(final String target) {
+    return target.startsWith("/proc/") || target.endsWith(".jar") || target.endsWith(".jmod");
+  }
+
+  private static long systemOpenFileCount() {
+    try {
+      final OperatingSystemMXBean system = ManagementFactory.getOperatingSystemMXBean();
+      if (system instanceof com.sun.management.UnixOperatingSystemMXBean) {
+        return ((com.sun.management.UnixOperatingSystemMXBean) system)
+            .getOpenFileDescriptorCount();
+      }
+    } catch (final LinkageError missing) {
+      // not known on this JVM
+    }
+
+    return UNKNOWN;
+  }
+}
@@ -0,0 +1,110 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * The CPU time and allocation of the current thread, and the garbage collection of the whole
+ * JVM, at one moment. The difference between two of these is what happened in between. Anything
+ * the JVM cannot measure is {@link #UNAVAILABLE}.
+ */
+final class ResourceUsage {
+  static final long UNAVAILABLE = -1;
+
+  private static final ThreadMXBean THREADS = threads();
+  private static final List<GarbageCollectorMXBean> COLLECTORS =
+      ManagementFactory.getGarbageCollectorMXBeans();
+  private static final Allocation ALLOCATION = Allocation.load(THREADS);
+
+  final long wallNanos;
+  final long cpuNanos;
+  final long allocatedBytes;
+  final long gcMillis;
+  final long gcCount;
+
+  private ResourceUsage(final long wallNanos, final long cpuNanos, final long allocatedBytes,
+      final long gcMillis, final long gcCount) {
+    this.wallNanos = wallNanos;
+    this.cpuNanos = cpuNanos;
+    this.allocatedBytes = allocatedBytes;
+    this.gcMillis = gcMillis;
+    this.gcCount = gcCount;
+  }
+
+  /**
+   * Measure now, on the current thread.
+   * @return the usage so far
+   */
+  static ResourceUsage ofCurrentThread() {
+    long gcMillis = 0;
+    long gcCount = 0;
+    for (GarbageCollectorMXBean collector : COLLECTORS) {
+      gcMillis += Math.max(0, collector.getCollectionTime());
+      gcCount += Math.max(0, collector.getCollectionCount());
+    }
+    final long cpuNanos = THREADS.isCurrentThreadCpuTimeSupported()
+        ? THREADS.getCurrentThreadCpuTime() : UNAVAILABLE;
+
+    return new ResourceUsage(System.nanoTime(), cpuNanos, ALLOCATION.ofCurrentThread(),
+        gcMillis, gcCount);
+  }
+
+  /**
+   * What was used since an earlier measurement on the same thread.
+   * @param earlier the measurement at the start
+   * @return the difference
+   */
+  ResourceUsage since(final ResourceUsage earlier) {
+    return new ResourceUsage(this.wallNanos - earlier.wallNanos,
+        difference(this.cpuNanos, earlier.cpuNanos),
+        difference(this.allocatedBytes, earlier.allocatedBytes),
+        this.gcMillis - earlier.gcMillis, this.gcCount - earlier.gcCount);
+  }
+
+  private static long difference(final long later, final long earlier) {
+    return later == UNAVAILABLE || earlier == UNAVAILABLE ? UNAVAILABLE : later - earlier;
+  }
+
+  private static ThreadMXBean threads() {
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    try {
+      if (threads.isThreadCpuTimeSupported() && !threads.isThreadCpuTimeEnabled()) {
+        threads.setThreadCpuTimeEnabled(true);
+      }
+    } catch (final UnsupportedOperationException | SecurityException notAllowed) {
+      // measured as unavailable
+    }
+
+    return threads;
+  }
+
+  /**
+   * Reads the bytes allocated by a thread through the HotSpot extension of {@link ThreadMXBean},
+   * where the JVM has it.
+   */
+  @FunctionalInterface
+  private interface Allocation {
+    long ofCurrentThread();
+
+    static Allocation load(final ThreadMXBean threads) {
+      try {
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+          return () -> UNAVAILABLE;
+        }
+        final com.sun.management.ThreadMXBean hotSpot = (com.sun.management.ThreadMXBean) threads;
+        if (!hotSpot.isThreadAllocatedMemorySupported()) {
+          return () -> UNAVAILABLE;
+        }
+        if (!hotSpot.isThreadAllocatedMemoryEnabled()) {
+          hotSpot.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        return () -> hotSpot.getThreadAllocatedBytes(Thread.currentThread().getId());
+      } catch (final LinkageError | UnsupportedOperationException | SecurityException missing) {
+        return () -> UNAVAILABLE;
+      }
+    }
+  }
+}
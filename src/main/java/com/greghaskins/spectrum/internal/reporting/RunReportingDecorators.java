@@ -0,0 +1,96 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Adds the optional reporting that has been switched on by system properties to a run.
+ */
+public interface RunReportingDecorators {
+  /**
+   * Decorate the reporting of a run with whatever the system properties ask for.
+   * @param reporting the reporting to the test framework
+   * @param run description of the whole run
+   * @return reporting to run the tests with, which must be told when the run finishes
+   */
+  static RunReporting<Description, Failure> decorate(
+      final RunReporting<Description, Failure> reporting, final Description run) {
+    RunReporting<Description, Failure> decorated = reporting;
+
+    // only the reporting to the test framework is moved off the spec's thread, as the
+    // decorators below measure the spec as it runs
+    final int asyncCapacity = AsyncRunReporting.capacityFromSystemProperty();
+    if (asyncCapacity > 0) {
+      decorated = new AsyncRunReporting<>(decorated, asyncCapacity);
+    }
+
+    // failure events carry the thread which failed, so are recorded before any move off it
+    decorated = new FailureEventRunDecorator(decorated);
+
+    // the results are written inside every decorator which adds failures of its own, so they
+    // record what the test framework is told
+    final String ndjsonFile = System.getProperty(Configure.NDJSON_RESULTS_PROPERTY);
+    if (ndjsonFile != null && !ndjsonFile.isEmpty()) {
+      decorated = new NdjsonRunDecorator(decorated, run, Paths.get(ndjsonFile));
+    }
+
+    final String xmlDirectory = System.getProperty(Configure.XML_RESULTS_DIRECTORY_PROPERTY);
+    if (xmlDirectory != null && !xmlDirectory.isEmpty()) {
+      decorated = new JunitXmlRunDecorator(decorated, run, Paths.get(xmlDirectory));
+    }
+
+    final String timingFile = System.getProperty(Configure.TIMING_FILE_PROPERTY);
+    if (timingFile != null && !timingFile.isEmpty()) {
+      decorated = new TimingRunDecorator(decorated, run, Paths.get(timingFile));
+    }
+
+    final int topHooks = HookProfile.topHooksFromSystemProperty();
+    if (topHooks > 0) {
+      decorated = new HookProfileRunDecorator(decorated, run, topHooks, System.out);
+    }
+
+    final int topTests = topFromSystemProperty(Configure.RESOURCE_PROFILE_PROPERTY,
+        ResourceProfileRunDecorator.DEFAULT_TOP_TESTS);
+    if (topTests > 0) {
+      decorated = new ResourceProfileRunDecorator(decorated, run, topTests, System.out);
+    }
+
+    final Duration sampleThreshold = SamplingRunDecorator.thresholdFromSystemProperty();
+    if (sampleThreshold != null) {
+      decorated = new SamplingRunDecorator(decorated, sampleThreshold, System.out);
+    }
+
+    final LeakDetectingRunDecorator.Action leakAction =
+        LeakDetectingRunDecorator.Action.fromSystemProperty();
+    if (leakAction != null) {
+      decorated = new LeakDetectingRunDecorator(decorated, leakAction, System.err);
+    }
+
+    return decorated;
+  }
+
+  /**
+   * How many entries a profile should report, as set by its system property. A number sets it,
+   * any other value but {@code false} uses the default.
+   * @param property the system property which switches the profile on
+   * @param defaultTop how many to report if the property is not a number
+   * @return the number to report, or zero if the profile is switched off
+   */
+  static int topFromSystemProperty(final String property, final int defaultTop) {
+    final String value = System.getProperty(property);
+    if (value == null || value.isEmpty() || value.equalsIgnoreCase("false")) {
+      return 0;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (final NumberFormatException notANumber) {
+      return defaultTop;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Samples the stacks of tests which run for longer than a threshold, and prints the stacks
+ * they spent the most time in when they finish. Switched on by
+ * {@link Configure#SAMPLE_SLOW_TESTS_PROPERTY}.
+ */
+public final class SamplingRunDecorator extends RunReportingDecorator<Description, Failure> {
+  static final Duration SAMPLE_INTERVAL = Duration.ofMillis(10);
+  static final int TOP_STACKS = 10;
+
+  private final Duration threshold;
+  private final PrintStream out;
+
+  // keyed by identity, as specs in different suites can have equal descriptions
+  private final Map<Description, StackSampler> samplers =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+
+  /**
+   * Construct the decorator.
+   * @param decoratee the reporting to pass events on to
+   * @param threshold how long a test runs before its stack is sampled
+   * @param out where to print the samples
+   */
+  public SamplingRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final Duration threshold, final PrintStream out) {
+    super(decoratee);
+    this.threshold = threshold;
+    this.out = out;
+  }
+
+  /**
+   * The threshold set by the system property.
+   * @return the threshold, or null if sampling is switched off
+   */
+  static Duration thresholdFromSystemProperty() {
+    final String value = System.getProperty(Configure.SAMPLE_SLOW_TESTS_PROPERTY);
+    if (value == null || value.isEmpty() || value.equalsIgnoreCase("false")) {
+      return null;
+    }
+    try {
+      return Duration.ofMillis(Long.parseLong(value.trim()));
+    } catch (final NumberFormatException notANumber) {
+      System.err.println("Spectrum is not sampling slow tests, as "
+          + Configure.SAMPLE_SLOW_TESTS_PROPERTY + " must be a number of milliseconds: " + value);
+
+      return null;
+    }
+  }
+
+  @Override
+  public void fireTestStarted(final Description description) {
+    super.fireTestStarted(description);
+    this.samplers.put(description,
+        new StackSampler(description, this.threshold, SAMPLE_INTERVAL));
+  }
+
+  @Override
+  public void fireTestFinished(final Description description) {
+    final StackSampler sampler = this.samplers.remove(description);
+    if (sampler != null) {
+      final String samples = sampler.stop(TOP_STACKS);
+      if (samples != null) {
+        // printed in one go, so tests finishing in parallel do not interleave
+        this.out.print(samples);
+      }
+    }
+    super.fireTestFinished(description);
+  }
+}
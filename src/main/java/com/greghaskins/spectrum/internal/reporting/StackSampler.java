@@ -0,0 +1,132 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.Suite;
+
+import org.junit.runner.Description;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the stack of the thread running one test, once the test has run for longer than a
+ * threshold. Samples are counted as collapsed stacks - the frames from the outermost to the
+ * innermost, separated by {@code ;} - which is the input format of most flame graph tools. The
+ * frames of the runner, from the one which started the test outwards, are left out. Samples are
+ * taken on a daemon thread of their own, so that sampling cannot delay the watchdog which times
+ * specs out.
+ */
+final class StackSampler implements Runnable {
+  private static final ScheduledThreadPoolExecutor SAMPLER = newSampler();
+
+  // the frame of the runner which runs a test between its started and finished events
+  private static final String RUNNER_CLASS = Suite.class.getName();
+  private static final String RUNNER_METHOD = "runTest";
+
+  private final Description description;
+  private final Thread thread;
+  private final Duration interval;
+  private final Map<String, Integer> stacks = new HashMap<>();
+  private final ScheduledFuture<?> sampling;
+  private int samples;
+  private boolean stopped;
+
+  /**
+   * Start sampling the current thread once the threshold has passed.
+   * @param description the test which the current thread is starting
+   * @param threshold how long the test runs before it is sampled
+   * @param interval how long to leave between samples
+   */
+  StackSampler(final Description description, final Duration threshold,
+      final Duration interval) {
+    this.description = description;
+    this.thread = Thread.currentThread();
+    this.interval = interval;
+    this.sampling = SAMPLER.scheduleAtFixedRate(this, threshold.toNanos(), interval.toNanos(),
+        TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void run() {
+    final String stack = collapse(this.thread.getStackTrace());
+    synchronized (this) {
+      if (!this.stopped && !stack.isEmpty()) {
+        this.stacks.merge(stack, 1, Integer::sum);
+        this.samples++;
+      }
+    }
+  }
+
+  /**
+   * Stop sampling and describe the most frequent stacks, if any were sampled.
+   * @param top how many stacks to describe
+   * @return the description, or null if the test finished before the threshold
+   */
+  String stop(final int top) {
+    this.sampling.cancel(false);
+    synchronized (this) {
+      this.stopped = true;
+      if (this.samples == 0) {
+        return null;
+      }
+
+      final List<Map.Entry<String, Integer>> ordered = new ArrayList<>(this.stacks.entrySet());
+      ordered.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+      final StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+          "Spectrum stack samples of %s - top %d of %d stacks from %d samples every %d ms%n",
+          this.description.getDisplayName(), Math.min(top, ordered.size()), ordered.size(),
+          this.samples, this.interval.toMillis()));
+      ordered.stream().limit(top).forEach(stack -> report.append(String.format("%8d %s%n",
+          stack.getValue(), stack.getKey())));
+
+      return report.toString();
+    }
+  }
+
+  /**
+   * The frames within the runner's, outermost first. The frames of generated lambda classes are
+   * left out, as they only show up in stacks taken from another thread.
+   */
+  private static String collapse(final StackTraceElement[] stack) {
+    int outermost = stack.length - 1;
+    for (int frame = 0; frame < stack.length; frame++) {
+      if (stack[frame].getMethodName().equals(RUNNER_METHOD)
+          && stack[frame].getClassName().equals(RUNNER_CLASS)) {
+        outermost = frame - 1;
+        break;
+      }
+    }
+
+    final StringBuilder collapsed = new StringBuilder();
+    for (int frame = outermost; frame >= 0; frame--) {
+      if (stack[frame].getClassName().contains("$$Lambda$")) {
+        continue;
+      }
+      if (collapsed.length() > 0) {
+        collapsed.append(';');
+      }
+      collapsed.append(stack[frame].getClassName()).append('.')
+          .append(stack[frame].getMethodName());
+    }
+
+    return collapsed.toString();
+  }
+
+  private static ScheduledThreadPoolExecutor newSampler() {
+    final ScheduledThreadPoolExecutor sampler = new ScheduledThreadPoolExecutor(1, task -> {
+      final Thread thread = new Thread(task, "spectrum-sampler");
+      thread.setDaemon(true);
+
+      return thread;
+    });
+    sampler.setRemoveOnCancelPolicy(true);
+
+    return sampler;
+  }
+}
@@ -0,0 +1,113 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+
+import org.junit.runner.Description;
+
+import java.time.Duration;
+
+/**
+ * Events about the run for the JDK Flight Recorder, so a recording shows the suites, specs and
+ * hooks alongside what the JVM was doing. Where the Flight Recorder is not available, nothing
+ * happens. Where it is, an event costs little more than a check of whether it is being recorded.
+ */
+public abstract class TestEvents {
+
+  private static final String FLIGHT_RECORDER_EVENT = "jdk.jfr.Event";
+  private static final String FLIGHT_RECORDER_EVENTS =
+      "com.greghaskins.spectrum.internal.reporting.FlightRecorderTestEvents";
+
+  private static final TestEvents INSTANCE = load();
+
+  /**
+   * A span of time in the run, recorded when it ends.
+   */
+  @FunctionalInterface
+  public interface Span {
+    void end();
+  }
+
+  private static final Span NOT_RECORDED = () -> {
+  };
+
+  public static TestEvents instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Start the span of a suite being run.
+   * @param description the suite
+   * @return the span, which must be ended when the suite has finished
+   */
+  public abstract Span suite(Description description);
+
+  /**
+   * Start the span of a spec being run, including its hooks.
+   * @param description the spec
+   * @return the span, which must be ended when the spec has finished
+   */
+  public abstract Span spec(Description description);
+
+  /**
+   * Start the span of a hook being run, including what runs inside it.
+   * @param description the suite or spec that the hook is run for
+   * @param hook how and where the hook was declared
+   * @return the span, which must be ended when the hook has finished
+   */
+  public abstract Span hook(Description description, HookContext hook);
+
+  /**
+   * Record that a test ran out of time.
+   * @param description the test
+   * @param timeout the time it had
+   */
+  public abstract void timedOut(Description description, Duration timeout);
+
+  /**
+   * Record that a test failed.
+   * @param description the test
+   * @param failure what it failed with
+   */
+  public abstract void failed(Description description, Throwable failure);
+
+  static Span notRecorded() {
+    return NOT_RECORDED;
+  }
+
+  private static TestEvents load() {
+    try {
+      Class.forName(FLIGHT_RECORDER_EVENT);
+
+      return (TestEvents) Class.forName(FLIGHT_RECORDER_EVENTS).getDeclaredConstructor()
+          .newInstance();
+    } catch (final ReflectiveOperationException | LinkageError notAvailable) {
+      return new NoTestEvents();
+    }
+  }
+
+  /**
+   * Used where there is no Flight Recorder.
+   */
+  private static final class NoTestEvents extends TestEvents {
+    @Override
+    public Span suite(final Description description) {
+      return NOT_RECORDED;
+    }
+
+    @Override
+    public Span spec(final Description description) {
+      return NOT_RECORDED;
+    }
+
+    @Override
+    public Span hook(final Description description, final HookContext hook) {
+      return NOT_RECORDED;
+    }
+
+    @Override
+    public void timedOut(final Description description, final Duration timeout) {}
+
+    @Override
+    public void failed(final Description description, final Throwable failure) {}
+  }
+}
@@ -0,0 +1,178 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.reporting.TimingRunDecorator.Timing;
+
+import org.junit.runner.Description;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes timings to a file, as CSV if its name ends {@code .csv}, otherwise as a JSON array.
+ * Each run is appended to what is already there, so one file can collect every test class run
+ * by the same build. Times are in nanoseconds, with starts measured from the start of the run.
+ */
+final class TimingFile {
+  private static final String CSV_HEADER =
+      "run,kind,name,start_ns,duration_ns,body_ns,hooks_ns\n";
+
+  private TimingFile() {}
+
+  /**
+   * Append the timings of a run, reporting rather than failing the run if that is not possible.
+   * @param file to write to
+   * @param run description of the run
+   * @param runStart when the run started
+   * @param timings in the order to write them
+   */
+  static void append(final Path file, final Description run, final long runStart,
+      final List<Timing> timings) {
+    // runs of different test classes in the same JVM can finish at the same time; a file lock
+    // only keeps out other JVMs, such as forked test workers, as this one already holds it
+    synchronized (TimingFile.class) {
+      try (RandomAccessFile output = new RandomAccessFile(file.toFile(), "rw")) {
+        final FileLock lock = output.getChannel().lock();
+        try {
+          if (isCsv(file)) {
+            appendCsv(output, run, runStart, timings);
+          } else {
+            appendJson(output, run, runStart, timings);
+          }
+        } finally {
+          lock.release();
+        }
+      } catch (final IOException error) {
+        System.err.println("Spectrum could not write timings to " + file + ": " + error);
+      }
+    }
+  }
+
+  private static boolean isCsv(final Path file) {
+    return file.getFileName().toString().toLowerCase().endsWith(".csv");
+  }
+
+  private static void appendCsv(final RandomAccessFile output, final Description run,
+      final long runStart, final List<Timing> timings) throws IOException {
+    final StringBuilder csv = new StringBuilder();
+    if (output.length() == 0) {
+      csv.append(CSV_HEADER);
+    }
+    for (Timing timing : timings) {
+      csv.append(csvField(run.getDisplayName())).append(',')
+          .append(timing.kind).append(',')
+          .append(csvField(timing.description.getDisplayName())).append(',')
+          .append(timing.started - runStart).append(',')
+          .append(timing.durationNanos()).append(',')
+          .append(timing.bodyNanos).append(',')
+          .append(timing.hookNanos()).append('\n');
+    }
+    output.seek(output.length());
+    output.write(csv.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void appendJson(final RandomAccessFile output, final Description run,
+      final long runStart, final List<Timing> timings) throws IOException {
+    final StringBuilder json = new StringBuilder();
+    String separator = "";
+    for (Timing timing : timings) {
+      json.append(separator)
+          .append("{\"run\":").append(jsonString(run.getDisplayName()))
+          .append(",\"kind\":\"").append(timing.kind).append('"')
+          .append(",\"name\":").append(jsonString(timing.description.getDisplayName()))
+          .append(",\"start_ns\":").append(timing.started - runStart)
+          .append(",\"duration_ns\":").append(timing.durationNanos())
+          .append(",\"body_ns\":").append(timing.bodyNanos)
+          .append(",\"hooks_ns\":").append(timing.hookNanos())
+          .append('}');
+      separator = ",\n";
+    }
+
+    // replace the closing bracket of the array already in the file, so it stays valid JSON
+    final long closingBracket = findClosingBracket(output);
+    if (closingBracket < 0) {
+      output.setLength(0);
+      output.write(("[\n" + json + "\n]\n").getBytes(StandardCharsets.UTF_8));
+    } else {
+      output.seek(closingBracket);
+      final String joiner = json.length() == 0 || isEmptyArray(output, closingBracket) ? ""
+          : ",\n";
+      output.write((joiner + json + "\n]\n").getBytes(StandardCharsets.UTF_8));
+      output.setLength(output.getFilePointer());
+    }
+  }
+
+  private static long findClosingBracket(final RandomAccessFile output) throws IOException {
+    for (long position = output.length() - 1; position >= 0; position--) {
+      output.seek(position);
+      final int character = output.read();
+      if (character == ']') {
+        return position;
+      }
+      if (!Character.isWhitespace(character)) {
+        return -1;
+      }
+    }
+
+    return -1;
+  }
+
+  private static boolean isEmptyArray(final RandomAccessFile output, final long closingBracket)
+      throws IOException {
+    for (long position = closingBracket - 1; position >= 0; position--) {
+      output.seek(position);
+      final int character = output.read();
+      if (!Character.isWhitespace(character)) {
+        output.seek(closingBracket);
+
+        return character == '[';
+      }
+    }
+    output.seek(closingBracket);
+
+    return false;
+  }
+
+  private static String csvField(final String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+      return value;
+    }
+
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  static String jsonString(final String value) {
+    final StringBuilder escaped = new StringBuilder(value.length() + 2).append('"');
+    for (int index = 0; index < value.length(); index++) {
+      final char character = value.charAt(index);
+      switch (character) {
+        case '"':
+          escaped.append("\\\"");
+          break;
+        case '\\':
+          escaped.append("\\\\");
+          break;
+        case '\n':
+          escaped.append("\\n");
+          break;
+        case '\r':
+          escaped.append("\\r");
+          break;
+        case '\t':
+          escaped.append("\\t");
+          break;
+        default:
+          if (character < ' ') {
+            escaped.append(String.format("\\u%04x", (int) character));
+          } else {
+            escaped.append(character);
+          }
+      }
+    }
+
+    return escaped.append('"').toString();
+  }
+}
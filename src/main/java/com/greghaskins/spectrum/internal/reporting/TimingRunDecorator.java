@@ -0,0 +1,135 @@
+package com.greghaskins.spectrum.internal.reporting;
+
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunReportingDecorator;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records when each suite and test starts and finishes, and how much of that time was spent in
+ * its body rather than its hooks. The timings are written to a file when the run finishes.
+ */
+public final class TimingRunDecorator extends RunReportingDecorator<Description, Failure> {
+  private final Description run;
+  private final Path file;
+  private final long runStart = System.nanoTime();
+
+  // keyed by identity, as specs in different suites can have equal descriptions
+  private final Map<Description, Timing> timings =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+
+  /**
+   * Construct the decorator.
+   * @param decoratee reporting to pass all events on to
+   * @param run description of the whole run, normally the test class
+   * @param file where to write the timings - see {@link TimingFile}
+   */
+  public TimingRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final Description run, final Path file) {
+    super(decoratee);
+    this.run = run;
+    this.file = file;
+  }
+
+  @Override
+  public void fireSuiteStarted(final Description description) {
+    start(description, Timing.SUITE);
+    super.fireSuiteStarted(description);
+  }
+
+  @Override
+  public void fireSuiteFinished(final Description description) {
+    super.fireSuiteFinished(description);
+    finish(description);
+  }
+
+  @Override
+  public void fireTestStarted(final Description description) {
+    start(description, Timing.TEST);
+    super.fireTestStarted(description);
+  }
+
+  @Override
+  public void fireTestFinished(final Description description) {
+    super.fireTestFinished(description);
+    finish(description);
+  }
+
+  @Override
+  public void fireBodyStarted(final Description description) {
+    final long now = System.nanoTime();
+    super.fireBodyStarted(description);
+    final Timing timing = this.timings.get(description);
+    if (timing != null) {
+      timing.bodyStarted = now;
+    }
+  }
+
+  @Override
+  public void fireBodyFinished(final Description description) {
+    super.fireBodyFinished(description);
+    final Timing timing = this.timings.get(description);
+    if (timing != null && timing.bodyStarted != 0) {
+      timing.bodyNanos += System.nanoTime() - timing.bodyStarted;
+      timing.bodyStarted = 0;
+    }
+  }
+
+  @Override
+  public void fireRunFinished() {
+    super.fireRunFinished();
+    final List<Timing> ordered = new ArrayList<>(this.timings.values());
+    ordered.sort((first, second) -> Long.compare(first.started, second.started));
+    TimingFile.append(this.file, this.run, this.runStart, ordered);
+  }
+
+  private void start(final Description description, final String kind) {
+    // a composite test is started as a test and then as a suite - the outer one counts
+    this.timings.putIfAbsent(description, new Timing(description, kind, System.nanoTime()));
+  }
+
+  private void finish(final Description description) {
+    final long now = System.nanoTime();
+    final Timing timing = this.timings.get(description);
+    if (timing != null) {
+      timing.finished = now;
+    }
+  }
+
+  /**
+   * The times of one suite or test. Each is only updated by the thread running it.
+   */
+  static final class Timing {
+    static final String SUITE = "suite";
+    static final String TEST = "test";
+
+    final Description description;
+    final String kind;
+    final long started;
+    volatile long finished;
+    volatile long bodyNanos;
+    private long bodyStarted;
+
+    private Timing(final Description description, final String kind, final long started) {
+      this.description = description;
+      this.kind = kind;
+      this.started = started;
+    }
+
+    long durationNanos() {
+      return this.finished == 0 ? 0 : this.finished - this.started;
+    }
+
+    long hookNanos() {
+      return Math.max(0, durationNanos() - this.bodyNanos);
+    }
+  }
+}
@@ -52,8 +52,16 @@ public class SpectrumHelper {
   }
 
   public static Result run(final Block block) {
-    return runWithJUnit(
-        new Spectrum(Description.createSuiteDescription(block.getClass()), block));
+    return runWithJUnit(runner(block));
+  }
+
+  /**
+   * Declare the block as a test class would be, without running it.
+   * @param block the body of the test class
+   * @return the runner, ready to be asked for its description or run
+   */
+  public static Spectrum runner(final Block block) {
+    return new Spectrum(Description.createSuiteDescription(block.getClass()), block);
   }
 
   /**
@@ -73,6 +81,46 @@ public class SpectrumHelper {
     return listener;
   }
 
+  /**
+   * Run a block as a test class would be, with a system property set for the run.
+   * @param name of the system property
+   * @param value to set it to, or null to have it unset
+   * @param block the body of the test class
+   * @return the result of the run
+   */
+  public static Result runWithSystemProperty(final String name, final String value,
+      final Block block) {
+    return withSystemProperty(name, value, () -> run(block));
+  }
+
+  /**
+   * Do something with a system property set, then put back whatever it was before, including a
+   * value which was passed in to the build.
+   * @param name of the system property
+   * @param value to set it to, or null to have it unset
+   * @param action what to do while it is set
+   * @param <T> type of result
+   * @return the result of the action
+   */
+  public static <T> T withSystemProperty(final String name, final String value,
+      final ThrowingSupplier<T> action) {
+    final String previous = System.getProperty(name);
+    setOrClear(name, value);
+    try {
+      return action.get();
+    } finally {
+      setOrClear(name, previous);
+    }
+  }
+
+  private static void setOrClear(final String name, final String value) {
+    if (value == null) {
+      System.clearProperty(name);
+    } else {
+      System.setProperty(name, value);
+    }
+  }
+
   private static Result runWithJUnit(final Runner runner) {
     return new JUnitCore().run(Request.runner(runner));
   }
@@ -0,0 +1,97 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEachAsync;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(Spectrum.class)
+public class AfterEachAsyncSpecs {
+  {
+    describe("Clean up in the background after each spec", () -> {
+
+      it("does not hold up the next spec", () -> {
+        final CountDownLatch secondSpecStarted = new CountDownLatch(1);
+        final AtomicInteger cleanups = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            afterEachAsync(() -> {
+              if (cleanups.incrementAndGet() == 1) {
+                assertThat(secondSpecStarted.await(5, TimeUnit.SECONDS), is(true));
+              }
+            });
+            it("first", () -> {
+            });
+            it("second", secondSpecStarted::countDown);
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(cleanups.get(), is(2));
+      });
+
+      it("is finished before the suite's afterAll", () -> {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            afterEachAsync(() -> {
+              Thread.sleep(50);
+              events.add("cleanup");
+            });
+            afterAll(() -> events.add("afterAll"));
+            it("one", () -> {
+            });
+            describe("child suite", () -> {
+              it("two", () -> {
+              });
+            });
+          });
+        });
+
+        assertThat(events, contains("cleanup", "cleanup", "afterAll"));
+      });
+
+      it("reports a failure against the suite, naming the spec it followed", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            final AtomicInteger cleanups = new AtomicInteger();
+            afterEachAsync(() -> {
+              if (cleanups.incrementAndGet() == 2) {
+                throw new IllegalStateException("could not clean up");
+              }
+            });
+            it("first", () -> {
+            });
+            it("second", () -> {
+            });
+            it("third", () -> {
+            });
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getDisplayName(), is("suite"));
+        assertThat(result.getFailures().get(0).getMessage(),
+            is("afterEachAsync after second(suite) failed: could not clean up"));
+        assertThat(result.getFailures().get(0).getException().getCause().getMessage(),
+            is("could not clean up"));
+      });
+
+    });
+  }
+}
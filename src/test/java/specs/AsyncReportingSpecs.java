@@ -0,0 +1,120 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Description;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@RunWith(Spectrum.class)
+public class AsyncReportingSpecs {
+  {
+    describe("Asynchronous reporting", () -> {
+
+      final Block suite = () -> {
+        describe("reported suite", () -> {
+          it("one", () -> {
+          });
+          it("two", () -> {
+            throw new AssertionError("failed");
+          });
+          it("three", () -> {
+          });
+        });
+      };
+
+      it("delivers every event in order from its own thread", () -> {
+        final SlowListener listener = runAsync("true", suite);
+
+        assertThat(listener.events, contains("started one", "finished one", "started two",
+            "failure two", "finished two", "started three", "finished three"));
+        assertThat(listener.threads, everyItem(is("spectrum-reporting")));
+      });
+
+      it("makes specs wait when its buffer is full, without losing events", () -> {
+        final SlowListener listener = runAsync("1", suite);
+
+        assertThat(listener.events.size(), is(7));
+        assertThat(listener.events.get(6), is("finished three"));
+      });
+
+      it("lets the specs run ahead of a slow listener", () -> {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        runAsync(new SlowListener(order), "true", () -> {
+          describe("reported suite", () -> {
+            it("one", () -> order.add("ran one"));
+            it("two", () -> order.add("ran two"));
+          });
+        });
+
+        assertThat(order.indexOf("ran two") < order.indexOf("finished one"), is(true));
+      });
+
+    });
+  }
+
+  /**
+   * Records the events it hears about, taking its time over each one.
+   */
+  private static final class SlowListener extends RunListener {
+    final List<String> events;
+    final List<String> threads = new CopyOnWriteArrayList<>();
+
+    SlowListener(final List<String> events) {
+      this.events = events;
+    }
+
+    @Override
+    public void testStarted(final Description description) throws Exception {
+      heard("started", description);
+    }
+
+    @Override
+    public void testFinished(final Description description) throws Exception {
+      heard("finished", description);
+    }
+
+    @Override
+    public void testFailure(final Failure failure) throws Exception {
+      heard("failure", failure.getDescription());
+    }
+
+    private void heard(final String event, final Description description)
+        throws InterruptedException {
+      Thread.sleep(20);
+      this.threads.add(Thread.currentThread().getName());
+      this.events.add(event + " " + description.getMethodName());
+    }
+  }
+
+  private static SlowListener runAsync(final String capacity, final Block block) {
+    return runAsync(new SlowListener(new CopyOnWriteArrayList<>()), capacity, block);
+  }
+
+  private static SlowListener runAsync(final SlowListener listener, final String capacity,
+      final Block block) {
+    final RunNotifier notifier = new RunNotifier();
+    notifier.addListener(listener);
+
+    return SpectrumHelper.withSystemProperty(Configure.ASYNC_REPORTING_PROPERTY, capacity, () -> {
+      SpectrumHelper.runner(block).run(notifier);
+
+      return listener;
+    });
+  }
+}
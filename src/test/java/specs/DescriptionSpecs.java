@@ -0,0 +1,77 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.fit;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.xdescribe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.stream.IntStream;
+
+@RunWith(Spectrum.class)
+public class DescriptionSpecs {
+  {
+    describe("The test tree once declared", () -> {
+
+      it("gives the same description every time it is asked", () -> {
+        final Spectrum runner = SpectrumHelper.runner(() -> {
+          describe("suite", () -> {
+            it("spec", () -> {
+            });
+          });
+        });
+
+        assertThat(runner.getDescription(), is(sameInstance(runner.getDescription())));
+        assertThat(runner.getDescription().getChildren().get(0),
+            is(sameInstance(runner.getDescription().getChildren().get(0))));
+      });
+
+      it("counts the tests in a large tree", () -> {
+        final Spectrum runner = SpectrumHelper.runner(() -> {
+          IntStream.range(0, 100).forEach(suite -> {
+            describe("suite " + suite, () -> {
+              IntStream.range(0, 100).forEach(spec -> {
+                it("spec " + spec, () -> {
+                });
+              });
+            });
+          });
+        });
+
+        final Description description = runner.getDescription();
+
+        assertThat(runner.testCount(), is(10000));
+        assertThat(description.testCount(), is(10000));
+        assertThat(description.getChildren().size(), is(100));
+      });
+
+      it("still knows which suites are ignored", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          xdescribe("ignored suite", () -> {
+            it("is ignored", () -> {
+            });
+          });
+          describe("suite with focus", () -> {
+            fit("runs", () -> {
+            });
+            it("is not in focus", () -> {
+            });
+          });
+        });
+
+        assertThat(result.getRunCount(), is(1));
+        assertThat(result.getIgnoreCount(), is(2));
+      });
+
+    });
+  }
+}
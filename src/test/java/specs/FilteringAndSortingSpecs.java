@@ -0,0 +1,175 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.given;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.scenario;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.then;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sorter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@RunWith(Spectrum.class)
+public class FilteringAndSortingSpecs {
+  {
+    describe("Filtering a Spectrum runner", () -> {
+
+      it("only runs the selected spec and the hooks around it", () -> {
+        final List<String> events = new ArrayList<>();
+        final Spectrum runner = SpectrumHelper.runner(twoSuites(events));
+
+        final Result result = new JUnitCore().run(
+            Request.runner(runner).filterWith(specNamed(runner, "second spec")));
+
+        assertThat(result.getRunCount(), is(1));
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("second beforeAll", "second beforeEach", "second spec",
+            "second afterAll"));
+      });
+
+      it("describes only what is left after filtering", () -> {
+        final Spectrum runner = SpectrumHelper.runner(twoSuites(new ArrayList<>()));
+
+        runner.filter(Filter.matchMethodDescription(specNamed(runner, "first spec")));
+
+        assertThat(runner.testCount(), is(1));
+        assertThat(runner.getDescription().getChildren().size(), is(1));
+        assertThat(runner.getDescription().getChildren().get(0).getDisplayName(), is("first"));
+      });
+
+      it("complains when nothing is selected", () -> {
+        final Spectrum runner = SpectrumHelper.runner(twoSuites(new ArrayList<>()));
+
+        Throwable thrown = null;
+        try {
+          runner.filter(Filter.matchMethodDescription(
+              Description.createTestDescription("no.such.Class", "nothing")));
+        } catch (final NoTestsRemainException expected) {
+          thrown = expected;
+        }
+
+        assertThat(thrown, instanceOf(NoTestsRemainException.class));
+      });
+
+      it("keeps every step of a scenario when one of them is selected", () -> {
+        final List<String> steps = new ArrayList<>();
+        final Spectrum runner = SpectrumHelper.runner(() -> {
+          scenario("a scenario", () -> {
+            given("a first step", () -> steps.add("given"));
+            then("a last step", () -> steps.add("then"));
+          });
+          describe("another suite", () -> {
+            it("is not run", () -> steps.add("other"));
+          });
+        });
+
+        final Result result = new JUnitCore().run(
+            Request.runner(runner).filterWith(specNamed(runner, "Then a last step")));
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(steps, contains("given", "then"));
+      });
+
+    });
+
+    describe("Sorting a Spectrum runner", () -> {
+
+      it("reorders the suites and specs at every level", () -> {
+        final List<String> events = new ArrayList<>();
+        final Spectrum runner = SpectrumHelper.runner(() -> {
+          describe("a", () -> {
+            it("a1", () -> events.add("a1"));
+            it("a2", () -> events.add("a2"));
+          });
+          describe("b", () -> {
+            it("b1", () -> events.add("b1"));
+          });
+        });
+
+        runner.sort(new Sorter(byDisplayName().reversed()));
+        new JUnitCore().run(runner);
+
+        assertThat(events, contains("b1", "a2", "a1"));
+      });
+
+      it("leaves the steps of a scenario in order", () -> {
+        final List<String> steps = new ArrayList<>();
+        final Spectrum runner = SpectrumHelper.runner(() -> {
+          scenario("a scenario", () -> {
+            given("a", () -> steps.add("a"));
+            then("b", () -> steps.add("b"));
+          });
+        });
+
+        runner.sort(new Sorter(byDisplayName().reversed()));
+        new JUnitCore().run(runner);
+
+        assertThat(steps, contains("a", "b"));
+      });
+
+    });
+  }
+
+  private static Block twoSuites(final List<String> events) {
+    return () -> {
+      describe("first", () -> {
+        beforeAll(() -> events.add("first beforeAll"));
+        beforeEach(() -> events.add("first beforeEach"));
+        afterAll(() -> events.add("first afterAll"));
+
+        it("first spec", () -> events.add("first spec"));
+      });
+      describe("second", () -> {
+        beforeAll(() -> events.add("second beforeAll"));
+        beforeEach(() -> events.add("second beforeEach"));
+        afterAll(() -> events.add("second afterAll"));
+
+        it("first other spec", () -> events.add("first other spec"));
+        it("second spec", () -> events.add("second spec"));
+      });
+    };
+  }
+
+  private static Description specNamed(final Spectrum runner, final String name) {
+    return findSpec(runner.getDescription(), name);
+  }
+
+  private static Description findSpec(final Description description, final String name) {
+    if (name.equals(description.getMethodName())) {
+      return description;
+    }
+    for (Description child : description.getChildren()) {
+      final Description found = findSpec(child, name);
+      if (found != null) {
+        return found;
+      }
+    }
+
+    return null;
+  }
+
+  private static Comparator<Description> byDisplayName() {
+    return Comparator.comparing(Description::getDisplayName);
+  }
+}
@@ -0,0 +1,108 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.fixture;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.internal.fixtures.FixtureRegistry;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class FixtureRegistrySpecs {
+  {
+    describe("A fixture", () -> {
+
+      it("is built once for all the suites that use it", () -> {
+        final Object key = new Object();
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("outer suite", () -> {
+            usingFixture(key, Duration.ZERO, events).run();
+            describe("inner suite", usingFixture(key, Duration.ZERO, events));
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("build", "use", "use", "close"));
+      });
+
+      it("is closed as soon as the last suite finishes when there is no idle time", () -> {
+        final Object key = new Object();
+        final List<String> events = new CopyOnWriteArrayList<>();
+        SpectrumHelper.run(() -> describe("suite", usingFixture(key, Duration.ZERO, events)));
+
+        assertThat(events, contains("build", "use", "close"));
+        assertThat(FixtureRegistry.instance().isOpen(key), is(false));
+      });
+
+      it("is kept for another test class during its idle time, then closed", () -> {
+        final Object key = new Object();
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final Duration idleTime = Duration.ofMillis(200);
+        SpectrumHelper.run(() -> describe("first class", usingFixture(key, idleTime, events)));
+        SpectrumHelper.run(() -> describe("second class", usingFixture(key, idleTime, events)));
+
+        assertThat(events, contains("build", "use", "use"));
+        awaitClose(events);
+        assertThat(FixtureRegistry.instance().isOpen(key), is(false));
+        assertThat(events, contains("build", "use", "use", "close"));
+      });
+
+      it("is not built when no spec uses it", () -> {
+        final Object key = new Object();
+        final List<String> events = new CopyOnWriteArrayList<>();
+        SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            fixture(key, Duration.ZERO, () -> {
+              events.add("build");
+
+              return new Object();
+            });
+            it("does not use it", () -> {
+            });
+          });
+        });
+
+        assertThat(events.isEmpty(), is(true));
+        assertThat(FixtureRegistry.instance().isOpen(key), is(false));
+      });
+
+    });
+  }
+
+  private static Block usingFixture(final Object key, final Duration idleTime,
+      final List<String> events) {
+    return () -> {
+      final Supplier<AutoCloseable> resource = fixture(key, idleTime, () -> {
+        events.add("build");
+
+        return () -> events.add("close");
+      });
+
+      it("uses the fixture", () -> {
+        resource.get();
+        events.add("use");
+      });
+    };
+  }
+
+  private static void awaitClose(final List<String> events) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (!events.contains("close") && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.timeout;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RunWith(Spectrum.class)
+public class FlightRecorderSpecs {
+  {
+    describe("Flight Recorder events", () -> {
+
+      it("are recorded for suites, specs and hooks", () -> {
+        final List<RecordedEvent> events = record(() -> {
+          describe("recorded suite", () -> {
+            beforeEach(() -> {
+            });
+            it("recorded spec", () -> {
+            });
+          });
+        });
+
+        assertThat(namesOf(events), hasItems("spectrum.Suite", "spec:recorded spec",
+            "spectrum.Hook"));
+        assertThat(testsOf(events, "spectrum.Suite"), hasItem("recorded suite"));
+        assertThat(events.stream()
+            .filter(event -> event.getEventType().getName().equals("spectrum.Hook"))
+            .anyMatch(event -> "LOCAL".equals(event.getString("precedence"))
+                && "ATOMIC_ONLY".equals(event.getString("appliesTo"))
+                && event.getString("suite").endsWith(" > recorded suite")), is(true));
+      });
+
+      it("are recorded for failures and timeouts", () -> {
+        final List<RecordedEvent> events = record(() -> {
+          describe("recorded suite", () -> {
+            it("fails", () -> {
+              throw new AssertionError("expected");
+            });
+            it("times out", with(timeout(Duration.ofMillis(10)), () -> Thread.sleep(1000)));
+          });
+        });
+
+        assertThat(testsOf(events, "spectrum.Failure"), hasItems("fails", "times out"));
+        assertThat(testsOf(events, "spectrum.Timeout"), hasItem("times out"));
+        assertThat(events.stream()
+            .filter(event -> event.getEventType().getName().equals("spectrum.Failure"))
+            .anyMatch(event -> "expected".equals(event.getString("message"))), is(true));
+      });
+
+      it("are recorded for failures on the spec's thread when reporting is asynchronous", () -> {
+        final String specThread = Thread.currentThread().getName();
+        final List<RecordedEvent> events = SpectrumHelper.withSystemProperty(
+            Configure.ASYNC_REPORTING_PROPERTY, "true", () -> record(() -> {
+              describe("recorded suite", () -> {
+                it("fails", () -> {
+                  throw new AssertionError("expected");
+                });
+              });
+            }));
+
+        assertThat(events.stream()
+            .filter(event -> event.getEventType().getName().equals("spectrum.Failure"))
+            .map(event -> event.getThread().getJavaName())
+            .collect(Collectors.toList()), contains(specThread));
+      });
+
+    });
+  }
+
+  private static List<RecordedEvent> record(final Block block) throws Exception {
+    final File file = File.createTempFile("spectrum", ".jfr");
+    file.deleteOnExit();
+    try (Recording recording = new Recording()) {
+      recording.enable("spectrum.Suite");
+      recording.enable("spectrum.Spec");
+      recording.enable("spectrum.Hook");
+      recording.enable("spectrum.Timeout");
+      recording.enable("spectrum.Failure");
+      recording.start();
+      SpectrumHelper.run(block);
+      recording.stop();
+      recording.dump(file.toPath());
+    }
+
+    return RecordingFile.readAllEvents(file.toPath());
+  }
+
+  private static List<String> namesOf(final List<RecordedEvent> events) {
+    return events.stream()
+        .map(event -> event.getEventType().getName().equals("spectrum.Spec")
+            ? "spec:" + methodName(event.getString("test"))
+            : event.getEventType().getName())
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> testsOf(final List<RecordedEvent> events, final String name) {
+    return events.stream()
+        .filter(event -> event.getEventType().getName().equals(name))
+        .map(event -> methodName(event.getString("test")))
+        .collect(Collectors.toList());
+  }
+
+  private static String methodName(final String displayName) {
+    final int bracket = displayName.indexOf('(');
+
+    return bracket < 0 ? displayName : displayName.substring(0, bracket);
+  }
+}
@@ -0,0 +1,149 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.aroundEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.internal.hooks.NonReportingHook.nonReportingHookFrom;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
+import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RunWith(Spectrum.class)
+public class HookChainSpecs {
+  {
+    describe("A chain of hooks", () -> {
+
+      it("runs befores in declaration order and afters in reverse for every spec", () -> {
+        final List<String> events = new ArrayList<>();
+        SpectrumHelper.run(() -> {
+          describe("outer", () -> {
+            beforeEach(() -> events.add("before 1"));
+            beforeEach(() -> events.add("before 2"));
+            afterEach(() -> events.add("after 1"));
+            afterEach(() -> events.add("after 2"));
+
+            describe("inner", () -> {
+              beforeEach(() -> events.add("before 3"));
+              afterEach(() -> events.add("after 3"));
+
+              it("first", () -> events.add("first"));
+              it("second", () -> events.add("second"));
+            });
+          });
+        });
+
+        assertThat(events, contains(
+            "before 1", "before 2", "before 3", "first", "after 3", "after 2", "after 1",
+            "before 1", "before 2", "before 3", "second", "after 3", "after 2", "after 1"));
+      });
+
+      it("runs every after and reports each of their failures", () -> {
+        final List<String> events = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            afterEach(() -> {
+              events.add("after 1");
+              throw new AssertionError("first");
+            });
+            afterEach(() -> {
+              events.add("after 2");
+              throw new AssertionError("second");
+            });
+            afterEach(() -> events.add("after 3"));
+
+            it("spec", () -> events.add("spec"));
+          });
+        });
+
+        assertThat(events, contains("spec", "after 3", "after 2", "after 1"));
+        assertThat(failureMessages(result), contains("second", "first"));
+      });
+
+      it("stops at the first failing before", () -> {
+        final List<String> events = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            beforeEach(() -> {
+              events.add("before 1");
+              throw new AssertionError("before");
+            });
+            beforeEach(() -> events.add("before 2"));
+            afterEach(() -> events.add("after"));
+
+            it("spec", () -> events.add("spec"));
+          });
+        });
+
+        assertThat(events, contains("before 1", "after"));
+        assertThat(failureMessages(result), contains("before"));
+      });
+
+      it("can be run more than once by a hook around it", () -> {
+        final List<String> events = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            aroundEach(block -> {
+              block.run();
+              block.run();
+            });
+            beforeEach(() -> events.add("before"));
+            afterEach(() -> events.add("after"));
+
+            it("spec", () -> events.add("spec"));
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("before", "spec", "after", "before", "spec", "after"));
+      });
+
+      it("leaves a hook which reports on its inner block to do so", () -> {
+        final List<String> events = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            DeclarationState.instance().addHook(nonReportingHookFrom((description, reporting,
+                block) -> {
+              try {
+                block.run();
+              } catch (final AssertionError error) {
+                events.add("handled " + error.getMessage());
+              }
+            }), AppliesTo.ATOMIC_ONLY, Precedence.GUARANTEED_CLEAN_UP_LOCAL);
+            aroundEach(block -> {
+              block.run();
+              throw new AssertionError("around");
+            });
+
+            it("spec", () -> events.add("spec"));
+          });
+        });
+
+        assertThat(events, contains("spec", "handled around"));
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+    });
+  }
+
+  private static List<String> failureMessages(final Result result) {
+    return result.getFailures().stream()
+        .map(Failure::getMessage)
+        .collect(Collectors.toList());
+  }
+}
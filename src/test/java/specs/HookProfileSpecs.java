@@ -0,0 +1,94 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.let;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class HookProfileSpecs {
+  {
+    describe("Hook profiling", () -> {
+
+      it("reports the slowest hooks first, with where they were declared", () -> {
+        final List<String> report = runProfiled("2", () -> {
+          describe("profiled suite", () -> {
+            afterEach(() -> {
+            });
+            beforeEach(() -> Thread.sleep(20));
+            final Supplier<String> value = let(() -> "value");
+
+            it("one", value::get);
+            it("two", value::get);
+          });
+        });
+
+        assertThat(report.get(0), startsWith("Spectrum hook profile of "));
+        assertThat(report.get(0), containsString("top 2 of 3 hooks"));
+        assertThat(report.get(2), containsString("  beforeEach (atomic_only) at HookProfileSpecs.java:"));
+        assertThat(report.get(2).trim().split("\\s+")[1], is("2"));
+        assertThat(report.get(2), containsString(" > profiled suite"));
+        assertThat(report.size(), is(4));
+      });
+
+      it("does not count the time of the block inside the hook", () -> {
+        final List<String> report = runProfiled("1", () -> {
+          describe("profiled suite", () -> {
+            beforeEach(() -> {
+            });
+            it("is slow", () -> Thread.sleep(50));
+          });
+        });
+
+        final double totalMillis = Double.parseDouble(report.get(2).trim().split("\\s+")[0]);
+        assertThat(totalMillis < 50, is(true));
+      });
+
+      it("prints nothing when it is not switched on", () -> {
+        final List<String> report = runProfiled(null, () -> {
+          describe("suite", () -> {
+            beforeEach(() -> {
+            });
+            it("runs", () -> {
+            });
+          });
+        });
+
+        assertThat(report.isEmpty(), is(true));
+      });
+
+    });
+  }
+
+  private static List<String> runProfiled(final String top, final Block block) {
+    final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    final PrintStream original = System.out;
+    System.setOut(new PrintStream(captured, true));
+    try {
+      SpectrumHelper.runWithSystemProperty(Configure.HOOK_PROFILE_PROPERTY, top, block);
+    } finally {
+      System.setOut(original);
+    }
+    final String output = captured.toString().trim();
+
+    return output.isEmpty() ? Arrays.asList() : Arrays.asList(output.split("\\R"));
+  }
+}
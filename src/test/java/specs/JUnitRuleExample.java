@@ -1,23 +1,40 @@
 package specs;
 
 import static com.greghaskins.spectrum.Configure.junitMixin;
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.pooledJunitMixin;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.aroundAll;
 import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
 import static com.greghaskins.spectrum.dsl.specification.Specification.it;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
 import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.internal.execution.SpecExecutor;
 
+import junit.rule.ExampleRule;
 import org.junit.BeforeClass;
+import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Result;
 import org.junit.runner.RunWith;
 
 import java.io.File;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @RunWith(Spectrum.class)
 public class JUnitRuleExample {
@@ -46,6 +63,62 @@ public class JUnitRuleExample {
     }
   }
 
+  public static class CountingRuleMixin {
+    @ClassRule
+    public static ExampleRule classRule = new ExampleRule();
+
+    private final ExampleRule rule = new ExampleRule();
+
+    @Rule
+    public ExampleRule getRule() {
+      return rule;
+    }
+  }
+
+  public static class PooledRuleMixin {
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    private final ExampleRule rule = new ExampleRule();
+    private int resets;
+
+    public PooledRuleMixin() {
+      constructions.incrementAndGet();
+    }
+
+    @Rule
+    public ExampleRule getRule() {
+      return rule;
+    }
+  }
+
+  public static class SuitePooledMixin {
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    @Rule
+    public TemporaryFolder tempFolderRule = new TemporaryFolder();
+
+    public SuitePooledMixin() {
+      constructions.incrementAndGet();
+    }
+  }
+
+  public static class ThreadPerSpecExecutor implements SpecExecutor {
+    @Override
+    public void invokeAll(final List<Runnable> tasks) {
+      final List<Thread> threads = tasks.stream().map(Thread::new).collect(Collectors.toList());
+      threads.forEach(Thread::start);
+      for (Thread thread : threads) {
+        try {
+          thread.join();
+        } catch (final InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+
+          return;
+        }
+      }
+    }
+  }
+
   // can also use native junit annotations
   private static String classValue;
 
@@ -96,6 +169,101 @@ public class JUnitRuleExample {
         assertNotNull(tempFolderRuleMixin.get().getFolder().getRoot());
       });
     });
+
+    describe("The same rule mix-in used in more than one place", () -> {
+      describe("the first use", () -> {
+        Supplier<CountingRuleMixin> mixin = junitMixin(CountingRuleMixin.class);
+
+        it("applies the rules to a new object", () -> {
+          assertThat(mixin.get().getRule().getCount(), is(1));
+        });
+      });
+
+      describe("the second use", () -> {
+        Supplier<CountingRuleMixin> mixin = junitMixin(CountingRuleMixin.class);
+
+        it("applies the rules to a new object", () -> {
+          assertThat(mixin.get().getRule().getCount(), is(1));
+        });
+
+        it("has applied the class rule once for each use", () -> {
+          assertThat(CountingRuleMixin.classRule.getCount(), is(2));
+        });
+      });
+    });
+
+    describe("A rule mix-in in a parallel suite", () -> {
+      it("gives each concurrent spec its own object", () -> {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final Set<TempFolderRuleMixin> objectsSeen = ConcurrentHashMap.newKeySet();
+        final Result result = runWithThreadPerSpec(() -> {
+          describe("parallel suite", with(parallel(), () -> {
+            Supplier<TempFolderRuleMixin> mixin = junitMixin(TempFolderRuleMixin.class);
+
+            it("uses one object", () -> {
+              bothStarted.countDown();
+              assertThat(bothStarted.await(5, TimeUnit.SECONDS), is(true));
+              objectsSeen.add(mixin.get());
+            });
+            it("uses another object", () -> {
+              bothStarted.countDown();
+              assertThat(bothStarted.await(5, TimeUnit.SECONDS), is(true));
+              objectsSeen.add(mixin.get());
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(objectsSeen.size(), is(2));
+      });
+    });
+
+    describe("A pooled rule mix-in", () -> {
+      Supplier<PooledRuleMixin> mixin =
+          pooledJunitMixin(PooledRuleMixin.class, pooled -> pooled.resets++);
+
+      it("is constructed for the first spec", () -> {
+        assertThat(PooledRuleMixin.constructions.get(), is(1));
+        assertThat(mixin.get().resets, is(0));
+        assertThat(mixin.get().getRule().getCount(), is(1));
+      });
+
+      it("is reused and reset for the next spec on the same thread", () -> {
+        assertThat(PooledRuleMixin.constructions.get(), is(1));
+        assertThat(mixin.get().resets, is(1));
+      });
+
+      it("still has its rules applied for every spec", () -> {
+        assertThat(mixin.get().getRule().getCount(), is(3));
+      });
+
+      it("is dropped when the suite which declared it finishes", () -> {
+        SuitePooledMixin.constructions.set(0);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite run twice", () -> {
+            aroundAll(block -> {
+              block.run();
+              block.run();
+            });
+
+            describe("suite with the mix-in", () -> {
+              pooledJunitMixin(SuitePooledMixin.class);
+
+              it("uses the mix-in", () -> {
+              });
+            });
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(SuitePooledMixin.constructions.get(), is(2));
+      });
+    });
+  }
+
+  private static Result runWithThreadPerSpec(final Block block) {
+    return SpectrumHelper.runWithSystemProperty(Configure.EXECUTOR_PROPERTY,
+        ThreadPerSpecExecutor.class.getName(), block);
   }
 
   private void checkCanUseTempFolderAndRecordWhatItWas(Set<File> filesSeen,
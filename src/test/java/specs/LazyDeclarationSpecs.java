@@ -0,0 +1,147 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.tags;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.fdescribe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.xdescribe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(Spectrum.class)
+public class LazyDeclarationSpecs {
+  {
+    describe("Lazy declaration", () -> {
+
+      it("never declares the contents of an ignored suite", () -> {
+        final List<String> declared = new ArrayList<>();
+        final Result result = runLazily(() -> {
+          xdescribe("ignored suite", () -> {
+            declared.add("ignored suite");
+            it("is ignored", () -> {
+            });
+          });
+          describe("suite", () -> {
+            declared.add("suite");
+            it("runs", () -> {
+            });
+          });
+        });
+
+        assertThat(declared, contains("suite"));
+        assertThat(result.getRunCount(), is(1));
+        assertThat(result.getIgnoreCount(), is(1));
+      });
+
+      it("never declares suites that the tag filter leaves out", () -> {
+        final List<String> declared = new ArrayList<>();
+        final Result result = SpectrumHelper.withSystemProperty(Configure.INCLUDE_TAGS_PROPERTY,
+            "smoke", () -> runLazily(() -> {
+              describe("untagged suite", () -> {
+                declared.add("untagged suite");
+                it("is not a smoke test", () -> {
+                });
+              });
+              describe("smoke suite", with(tags("smoke"), () -> {
+                declared.add("smoke suite");
+                it("is a smoke test", () -> {
+                });
+              }));
+            }));
+
+        assertThat(declared, contains("smoke suite"));
+        assertThat(result.getRunCount(), is(1));
+      });
+
+      it("never declares suites that are out of focus", () -> {
+        final List<String> declared = new ArrayList<>();
+        final Result result = runLazily(() -> {
+          describe("unfocused suite", () -> {
+            declared.add("unfocused suite");
+            it("is out of focus", () -> {
+            });
+          });
+          fdescribe("focused suite", () -> {
+            declared.add("focused suite");
+            it("runs", () -> {
+            });
+          });
+        });
+
+        assertThat(declared, contains("focused suite"));
+        assertThat(result.getRunCount(), is(1));
+      });
+
+      it("declares nested suites after the rest of their parent", () -> {
+        final List<String> declared = new ArrayList<>();
+        final List<String> ran = new ArrayList<>();
+        final Result result = runLazily(() -> {
+          describe("outer", () -> {
+            beforeEach(() -> ran.add("outer beforeEach"));
+            describe("inner", () -> {
+              declared.add("inner");
+              beforeEach(() -> ran.add("inner beforeEach"));
+              it("spec", () -> ran.add("spec"));
+            });
+            declared.add("outer");
+          });
+        });
+
+        assertThat(declared, contains("outer", "inner"));
+        assertThat(ran, contains("outer beforeEach", "inner beforeEach", "spec"));
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("still reports the specs of every suite that runs", () -> {
+        final Result result = runLazily(() -> {
+          describe("first", () -> {
+            it("one", () -> {
+            });
+            describe("nested", () -> {
+              it("two", () -> {
+              });
+            });
+          });
+          describe("second", () -> {
+            it("three", () -> {
+            });
+          });
+        });
+
+        assertThat(result.getRunCount(), is(3));
+        assertThat(result.getFailures(), is(empty()));
+      });
+
+      it("is off by default", () -> {
+        final List<String> declared = new ArrayList<>();
+        SpectrumHelper.run(() -> {
+          xdescribe("ignored suite", () -> {
+            declared.add("ignored suite");
+          });
+        });
+
+        assertThat(declared, contains("ignored suite"));
+      });
+
+    });
+  }
+
+  private static Result runLazily(final Block block) {
+    return SpectrumHelper.runWithSystemProperty(Configure.LAZY_DECLARATION_PROPERTY, "true", block);
+  }
+}
@@ -0,0 +1,147 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.fixture;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class LeakDetectionSpecs {
+  {
+    describe("Leak detection", () -> {
+
+      it("fails a suite which leaves a thread running", () -> {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Result result = runDetecting("fail", () -> {
+          describe("leaky suite", () -> {
+            it("starts a thread", () -> startThread("leaked worker", release));
+          });
+        });
+        release.countDown();
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getDisplayName(),
+            is("leaky suite"));
+        assertThat(result.getFailures().get(0).getMessage(),
+            containsString("thread \"leaked worker\""));
+      });
+
+      it("fails a suite which leaves a file open, naming the file", () -> {
+        final File file = File.createTempFile("leaked", ".txt");
+        file.deleteOnExit();
+        final FileInputStream[] leaked = new FileInputStream[1];
+        final Result result = runDetecting("fail", () -> {
+          describe("leaky suite", () -> {
+            it("opens a file", () -> leaked[0] = new FileInputStream(file));
+          });
+        });
+        leaked[0].close();
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getMessage(), containsString(file.getName()));
+      });
+
+      it("reports a leak only against the innermost suite it was found in", () -> {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Result result = runDetecting("fail", () -> {
+          describe("outer suite", () -> {
+            describe("inner suite", () -> {
+              it("starts a thread", () -> startThread("leaked worker", release));
+            });
+          });
+        });
+        release.countDown();
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getDisplayName(),
+            is("inner suite"));
+      });
+
+      it("does not report threads which are stopped by the suite's clean up", () -> {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Result result = runDetecting("fail", () -> {
+          describe("tidy suite", () -> {
+            afterAll(release::countDown);
+            it("starts a thread", () -> startThread("stopped worker", release));
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("does not report what a shared fixture holds open during its idle time", () -> {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Result result = runDetecting("fail", () -> {
+          describe("suite with a fixture", () -> {
+            final Supplier<AutoCloseable> worker =
+                fixture(new Object(), Duration.ofSeconds(2), () -> {
+                  startThread("fixture worker", release);
+
+                  return release::countDown;
+                });
+            it("uses the fixture", worker::get);
+          });
+        });
+        release.countDown();
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("only warns when asked to warn", () -> {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        final PrintStream original = System.err;
+        System.setErr(new PrintStream(captured, true));
+        final Result result;
+        try {
+          result = runDetecting("warn", () -> {
+            describe("leaky suite", () -> {
+              it("starts a thread", () -> startThread("leaked worker", release));
+            });
+          });
+        } finally {
+          System.setErr(original);
+          release.countDown();
+        }
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(captured.toString(), containsString(
+            "Spectrum warning: leaky suite - Suite left behind thread \"leaked worker\""));
+      });
+
+    });
+  }
+
+  private static void startThread(final String name, final CountDownLatch release) {
+    new Thread(() -> {
+      try {
+        release.await();
+      } catch (final InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }, name).start();
+  }
+
+  private static Result runDetecting(final String action, final Block block) {
+    return SpectrumHelper.runWithSystemProperty(Configure.LEAK_DETECTION_PROPERTY, action, block);
+  }
+}
@@ -1,5 +1,8 @@
 package specs;
 
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
 import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
 import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
 import static com.greghaskins.spectrum.dsl.specification.Specification.it;
@@ -22,6 +25,10 @@ import org.junit.runner.notification.Failure;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -184,6 +191,84 @@ public class LetSpecs {
         });
       });
 
+      describe("laziness", () -> {
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Integer> lazy = let(calls::incrementAndGet);
+
+        it("does not call the supplier in a spec which does not use the value", () -> {
+          assertThat(calls.get(), is(0));
+        });
+
+        it("calls the supplier once, the first time the value is used", () -> {
+          assertThat(lazy.get(), is(1));
+          assertThat(lazy.get(), is(1));
+          assertThat(calls.get(), is(1));
+        });
+      });
+
+      describe("let in parallel specs", () -> {
+        it("gives each concurrent spec its own value", () -> {
+          final CountDownLatch bothSupplied = new CountDownLatch(2);
+          final Result result = SpectrumHelper.run(() -> {
+            describe("parallel suite", with(parallel(), () -> {
+              final Supplier<List<String>> list = let(ArrayList::new);
+
+              it("adds one thing", () -> {
+                list.get().add("one");
+                bothSupplied.countDown();
+                bothSupplied.await(5, TimeUnit.SECONDS);
+                assertThat(list.get(), contains("one"));
+              });
+              it("adds another thing", () -> {
+                list.get().add("another");
+                bothSupplied.countDown();
+                bothSupplied.await(5, TimeUnit.SECONDS);
+                assertThat(list.get(), contains("another"));
+              });
+            }));
+          });
+
+          assertThat(result.getFailureCount(), is(0));
+        });
+      });
+
+      describe("let read from a pooled thread", () -> {
+        it("gives the value of the running spec to a thread started by an earlier spec", () -> {
+          final List<String> seen = new ArrayList<>();
+          final ExecutorService pool = Executors.newSingleThreadExecutor();
+          try {
+            final Result result = SpectrumHelper.run(() -> {
+              describe("suite with a pool", () -> {
+                final Supplier<String> name = let(() -> "value");
+
+                it("starts the pool thread", () -> seen.add(pool.submit(name::get).get()));
+                it("reuses the pool thread", () -> seen.add(pool.submit(name::get).get()));
+              });
+            });
+
+            assertThat(result.getFailureCount(), is(0));
+            assertThat(seen, contains("value", "value"));
+          } finally {
+            pool.shutdown();
+          }
+        });
+
+        it("is refused, rather than null, once no spec is running", () -> {
+          final Result result = SpectrumHelper.run(() -> {
+            describe("suite", () -> {
+              final Supplier<String> name = let(() -> "value");
+              afterAll(name::get);
+
+              it("uses the value", () -> assertThat(name.get(), is("value")));
+            });
+          });
+
+          assertThat(result.getFailureCount(), is(1));
+          assertThat(result.getFailures().get(0).getException(),
+              instanceOf(IllegalStateException.class));
+        });
+      });
+
       describe("let across multiple threads", () -> {
         final Supplier<List<String>> listSupplier = let(ArrayList::new);
         it("can share the object with worker thread", () -> {
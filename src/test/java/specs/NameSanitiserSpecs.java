@@ -0,0 +1,63 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.timeout;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.internal.NameSanitiser;
+
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RunWith(Spectrum.class)
+public class NameSanitiserSpecs {
+  {
+    describe("The name sanitiser", () -> {
+
+      it("replaces characters which upset test runners", () -> {
+        assertThat(new NameSanitiser().sanitise("call(x.y)"), is("call[x_y]"));
+      });
+
+      it("leaves clean names alone", () -> {
+        assertThat(new NameSanitiser().sanitise("a clean name"), is("a clean name"));
+      });
+
+      it("numbers repeated names", () -> {
+        final NameSanitiser sanitiser = new NameSanitiser();
+
+        assertThat(Stream.of("a", "a", "a").map(sanitiser::sanitise).collect(Collectors.toList()),
+            contains("a", "a_1", "a_2"));
+      });
+
+      it("skips numbers that have already been used", () -> {
+        final NameSanitiser sanitiser = new NameSanitiser();
+
+        assertThat(
+            Stream.of("a_1", "a", "a", "a_1", "a").map(sanitiser::sanitise)
+                .collect(Collectors.toList()),
+            contains("a_1", "a", "a_2", "a_1_1", "a_3"));
+      });
+
+      it("scales to a million identical names", with(timeout(ofSeconds(30)), () -> {
+        final NameSanitiser sanitiser = new NameSanitiser();
+        final Set<String> names = new HashSet<>();
+        for (int index = 0; index < 1_000_000; index++) {
+          names.add(sanitiser.sanitise("example (generated)"));
+        }
+
+        assertThat(names.size(), is(1_000_000));
+      }));
+
+    });
+  }
+}
@@ -0,0 +1,259 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.given;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.scenario;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.then;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.when;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.internal.execution.SpecExecutor;
+import com.greghaskins.spectrum.internal.execution.SpecExecutors;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(Spectrum.class)
+public class ParallelSpecs {
+  {
+    describe("A parallel suite", () -> {
+
+      it("runs its specs at the same time as each other", () -> {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("parallel suite", with(parallel(), () -> {
+            it("waits for its sibling", () -> awaitOthers(bothStarted));
+            it("also waits for its sibling", () -> awaitOthers(bothStarted));
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("runs child suites at the same time as each other", () -> {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("parallel suite", with(parallel(), () -> {
+            describe("first child", () -> {
+              it("waits for its cousin", () -> awaitOthers(bothStarted));
+            });
+            describe("second child", () -> {
+              it("waits for its cousin", () -> awaitOthers(bothStarted));
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("runs the beforeAll and afterAll once around all of the children", () -> {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final AtomicInteger beforeAllCount = new AtomicInteger();
+        SpectrumHelper.run(() -> {
+          describe("parallel suite", with(parallel(), () -> {
+            beforeAll(() -> {
+              beforeAllCount.incrementAndGet();
+              events.add("beforeAll");
+            });
+            afterAll(() -> events.add("afterAll"));
+
+            it("one", () -> events.add("one"));
+            it("two", () -> events.add("two"));
+            it("three", () -> events.add("three"));
+          }));
+        });
+
+        assertThat(beforeAllCount.get(), is(1));
+        assertThat(events.get(0), is("beforeAll"));
+        assertThat(events.subList(1, 4), containsInAnyOrder("one", "two", "three"));
+        assertThat(events.get(4), is("afterAll"));
+      });
+
+      it("reports failures against the right specs", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("parallel suite", with(parallel(), () -> {
+            it("passes", () -> {
+            });
+            it("fails", () -> {
+              throw new AssertionError("expected");
+            });
+            it("also passes", () -> {
+            });
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(3));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(), is("fails"));
+      });
+
+      it("still runs the steps of a scenario in order", () -> {
+        final List<String> steps = new CopyOnWriteArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("parallel suite", with(parallel(), () -> {
+            scenario("a scenario", () -> {
+              given("a first step", () -> steps.add("given"));
+              when("a second step", () -> steps.add("when"));
+              then("a third step", () -> steps.add("then"));
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(steps, contains("given", "when", "then"));
+      });
+    });
+
+    describe("Parallel running by system property", () -> {
+
+      it("runs every suite in parallel", () -> {
+        final CountDownLatch allStarted = new CountDownLatch(2);
+        final Result result = runWithParallelProperty(() -> {
+          describe("plain suite", () -> {
+            it("waits for its sibling", () -> awaitOthers(allStarted));
+            it("also waits for its sibling", () -> awaitOthers(allStarted));
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+    });
+
+    describe("Choosing the executor for parallel suites", () -> {
+
+      it("can use a named implementation", () -> {
+        CountingExecutor.invocations.set(0);
+        final Result result = runWithExecutorProperty(CountingExecutor.class.getName(), () -> {
+          describe("parallel suite", with(parallel(), () -> {
+            it("one", () -> {
+            });
+            it("two", () -> {
+            });
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(CountingExecutor.invocations.get(), is(1));
+      });
+
+      it("looks the executor up once, rather than for every parallel suite", () -> {
+        final Result result = runWithExecutorProperty(ConstructionCountingExecutor.class.getName(),
+            () -> {
+              describe("parallel suite", with(parallel(), () -> {
+                it("one", () -> {
+                });
+              }));
+              describe("another parallel suite", with(parallel(), () -> {
+                it("two", () -> {
+                });
+              }));
+            });
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(ConstructionCountingExecutor.constructions.get(), is(1));
+      });
+
+      it("can use virtual threads, or the platform pool before Java 21", () -> {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final Result result = runWithExecutorProperty(SpecExecutors.VIRTUAL, () -> {
+          describe("parallel suite", with(parallel(), () -> {
+            it("waits for its sibling", () -> awaitOthers(bothStarted));
+            it("also waits for its sibling", () -> awaitOthers(bothStarted));
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("reports an executor that cannot be found", () -> {
+        final Result result = runWithExecutorProperty("no.such.Executor", () -> {
+          describe("parallel suite", with(parallel(), () -> {
+            it("never runs", () -> {
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getException(),
+            instanceOf(IllegalArgumentException.class));
+      });
+
+    });
+  }
+
+  public static class CountingExecutor implements SpecExecutor {
+    static final AtomicInteger invocations = new AtomicInteger();
+
+    @Override
+    public void invokeAll(final List<Runnable> tasks) {
+      invocations.incrementAndGet();
+      tasks.forEach(Runnable::run);
+    }
+  }
+
+  public static class ConstructionCountingExecutor implements SpecExecutor {
+    static final AtomicInteger constructions = new AtomicInteger();
+
+    public ConstructionCountingExecutor() {
+      constructions.incrementAndGet();
+    }
+
+    @Override
+    public void invokeAll(final List<Runnable> tasks) {
+      tasks.forEach(Runnable::run);
+    }
+  }
+
+  private static Result runWithExecutorProperty(final String executor, final Block block) {
+    return SpectrumHelper.runWithSystemProperty(Configure.EXECUTOR_PROPERTY, executor, block);
+  }
+
+  private static Result runWithParallelProperty(final Block block) {
+    return SpectrumHelper.runWithSystemProperty(Configure.PARALLEL_PROPERTY, "true", block);
+  }
+
+  /**
+   * Count down and wait for everyone else to. The wait is a managed block, so the pool running
+   * the specs can add a thread rather than starve when there are fewer cores than specs.
+   */
+  private static void awaitOthers(final CountDownLatch latch) throws InterruptedException {
+    latch.countDown();
+    ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+      @Override
+      public boolean block() throws InterruptedException {
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+          throw new AssertionError("sibling specs did not run concurrently");
+        }
+
+        return true;
+      }
+
+      @Override
+      public boolean isReleasable() {
+        return latch.getCount() == 0;
+      }
+    });
+  }
+}
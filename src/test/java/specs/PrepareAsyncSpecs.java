@@ -0,0 +1,115 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.prepareAsync;
+import static com.greghaskins.spectrum.dsl.specification.Specification.xdescribe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(Spectrum.class)
+public class PrepareAsyncSpecs {
+  {
+    describe("Preparing a suite in the background", () -> {
+
+      it("starts while the previous sibling is still running", () -> {
+        final CountDownLatch secondSuitePreparing = new CountDownLatch(1);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("first suite", () -> {
+            it("waits for the next suite to start preparing", () -> {
+              assertThat(secondSuitePreparing.await(5, TimeUnit.SECONDS), is(true));
+            });
+          });
+          describe("second suite", () -> {
+            prepareAsync(secondSuitePreparing::countDown);
+            it("runs", () -> {
+            });
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("finishes before the first spec of the suite", () -> {
+        final AtomicBoolean prepared = new AtomicBoolean();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            prepareAsync(() -> {
+              Thread.sleep(50);
+              prepared.set(true);
+            });
+            it("sees the preparation", () -> assertThat(prepared.get(), is(true)));
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("runs once for all of the specs, in order with beforeAll", () -> {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final AtomicInteger preparations = new AtomicInteger();
+        SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            prepareAsync(preparations::incrementAndGet);
+            beforeAll(() -> events.add("beforeAll"));
+            it("one", () -> events.add("one"));
+            it("two", () -> events.add("two"));
+          });
+        });
+
+        assertThat(preparations.get(), is(1));
+        assertThat(events, contains("beforeAll", "one", "two"));
+      });
+
+      it("fails every spec of the suite when it fails", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            prepareAsync(() -> {
+              throw new IllegalStateException("could not prepare");
+            });
+            it("one", () -> {
+            });
+            it("two", () -> {
+            });
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(result.getFailures().get(0).getMessage(), is("could not prepare"));
+      });
+
+      it("never starts for an ignored suite", () -> {
+        final AtomicBoolean prepared = new AtomicBoolean();
+        SpectrumHelper.run(() -> {
+          describe("first suite", () -> {
+            it("runs", () -> {
+            });
+          });
+          xdescribe("ignored suite", () -> {
+            prepareAsync(() -> prepared.set(true));
+            it("is ignored", () -> {
+            });
+          });
+        });
+
+        assertThat(prepared.get(), is(false));
+      });
+
+    });
+  }
+}
@@ -0,0 +1,78 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(Spectrum.class)
+public class ResourceProfileSpecs {
+  {
+    describe("Resource profiling", () -> {
+
+      it("reports the tests which allocated the most first", () -> {
+        final List<String> report = runProfiled("1", () -> {
+          describe("profiled suite", () -> {
+            it("allocates little", () -> {
+            });
+            it("allocates a lot", () -> {
+              final List<byte[]> garbage = new ArrayList<>();
+              for (int i = 0; i < 64; i++) {
+                garbage.add(new byte[1024 * 1024]);
+              }
+              assertThat(garbage.size(), is(64));
+            });
+          });
+        });
+
+        assertThat(report.get(0), startsWith("Spectrum resource profile of "));
+        assertThat(report.get(0), containsString("top 1 of 2 tests by allocation"));
+        assertThat(report.get(2), containsString("allocates a lot"));
+        assertThat(Double.parseDouble(report.get(2).trim().split("\\s+")[0]), greaterThan(60.0));
+        assertThat(report.size(), is(3));
+      });
+
+      it("prints nothing when it is not switched on", () -> {
+        final List<String> report = runProfiled(null, () -> {
+          describe("suite", () -> {
+            it("runs", () -> {
+            });
+          });
+        });
+
+        assertThat(report.isEmpty(), is(true));
+      });
+
+    });
+  }
+
+  private static List<String> runProfiled(final String top, final Block block) {
+    final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    final PrintStream original = System.out;
+    System.setOut(new PrintStream(captured, true));
+    try {
+      SpectrumHelper.runWithSystemProperty(Configure.RESOURCE_PROFILE_PROPERTY, top, block);
+    } finally {
+      System.setOut(original);
+    }
+    final String output = captured.toString().trim();
+
+    return output.isEmpty() ? Arrays.asList() : Arrays.asList(output.split("\\R"));
+  }
+}
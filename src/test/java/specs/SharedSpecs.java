@@ -0,0 +1,172 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.shared;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.Variable;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class SharedSpecs {
+  {
+    describe("The `shared` helper function", () -> {
+
+      final AtomicInteger calls = new AtomicInteger();
+      final Supplier<List<String>> items = shared(() -> {
+        calls.incrementAndGet();
+
+        return new ArrayList<>();
+      });
+      final Variable<List<String>> firstSeen = new Variable<>();
+
+      it("supplies a value for specs", () -> {
+        firstSeen.set(items.get());
+        assertThat(calls.get(), is(1));
+      });
+
+      it("supplies the same value to every spec in the suite", () -> {
+        assertThat(items.get(), is(sameInstance(firstSeen.get())));
+        assertThat(calls.get(), is(1));
+      });
+
+      describe("in a child suite", () -> {
+        it("is still the same value", () -> {
+          assertThat(items.get(), is(sameInstance(firstSeen.get())));
+          assertThat(calls.get(), is(1));
+        });
+      });
+
+      it("is not supplied if no spec uses it", () -> {
+        final AtomicInteger unusedCalls = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            shared(unusedCalls::incrementAndGet);
+            it("does not use it", () -> {
+            });
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(unusedCalls.get(), is(0));
+      });
+
+      it("is supplied once for specs running in parallel", () -> {
+        final AtomicInteger parallelCalls = new AtomicInteger();
+        final Set<Object> seen = ConcurrentHashMap.newKeySet();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("parallel suite", with(parallel(), () -> {
+            final Supplier<Object> value = shared(() -> {
+              parallelCalls.incrementAndGet();
+              Thread.sleep(20);
+
+              return new Object();
+            });
+            for (int index = 0; index < 8; index++) {
+              it("uses the value " + index, () -> seen.add(value.get()));
+            }
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(parallelCalls.get(), is(1));
+        assertThat(seen.size(), is(1));
+      });
+
+      it("closes the value after the suite's afterAll", () -> {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            final Supplier<AutoCloseable> resource = shared(() -> {
+              events.add("open");
+
+              return () -> events.add("close");
+            });
+            afterAll(() -> events.add("afterAll"));
+
+            it("uses the resource", () -> resource.get());
+            it("uses it again", () -> resource.get());
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("open", "afterAll", "close"));
+      });
+
+      it("fails every spec which uses a value that could not be supplied", () -> {
+        final AtomicInteger failingCalls = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            final Supplier<Object> broken = shared(() -> {
+              failingCalls.incrementAndGet();
+              throw new IllegalStateException("cannot supply");
+            });
+
+            it("uses the value", () -> broken.get());
+            it("uses it again", () -> broken.get());
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(failingCalls.get(), is(1));
+        assertThat(result.getFailures().get(1).getException(),
+            instanceOf(IllegalStateException.class));
+      });
+
+      it("fails every spec with the same error when the supplier fails an assertion", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            final Supplier<Object> broken = shared(() -> {
+              throw new AssertionError("cannot supply");
+            });
+
+            it("uses the value", () -> broken.get());
+            it("uses it again", () -> broken.get());
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(result.getFailures().get(1).getException(),
+            sameInstance(result.getFailures().get(0).getException()));
+        assertThat(result.getFailures().get(1).getException(), instanceOf(AssertionError.class));
+      });
+
+      it("cannot be used while declaring the suite", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", () -> {
+            final Supplier<Integer> value = shared(() -> 1);
+            value.get();
+
+            it("is never reached", () -> {
+            });
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getException(),
+            instanceOf(IllegalStateException.class));
+      });
+
+    });
+  }
+}
@@ -0,0 +1,70 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+@RunWith(Spectrum.class)
+public class SlowTestSamplingSpecs {
+  {
+    describe("Sampling slow tests", () -> {
+
+      it("prints the stacks a slow test spent its time in", () -> {
+        final String output = runSampled("20", () -> {
+          describe("sampled suite", () -> {
+            it("is quick", () -> {
+            });
+            it("is slow", SlowTestSamplingSpecs::waitAWhile);
+          });
+        });
+
+        assertThat(output, startsWith("Spectrum stack samples of is slow"));
+        assertThat(output, not(containsString("is quick")));
+        assertThat(output, containsString("SlowTestSamplingSpecs.waitAWhile;java.lang.Thread.sleep"));
+        assertThat(output, not(containsString("org.junit.runner")));
+      });
+
+      it("prints nothing when it is not switched on", () -> {
+        final String output = runSampled(null, () -> {
+          describe("suite", () -> {
+            it("is slow", SlowTestSamplingSpecs::waitAWhile);
+          });
+        });
+
+        assertThat(output, is(""));
+      });
+
+    });
+  }
+
+  private static void waitAWhile() throws InterruptedException {
+    Thread.sleep(200);
+  }
+
+  private static String runSampled(final String threshold, final Block block) {
+    final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    final PrintStream original = System.out;
+    System.setOut(new PrintStream(captured, true));
+    try {
+      SpectrumHelper.runWithSystemProperty(Configure.SAMPLE_SLOW_TESTS_PROPERTY, threshold, block);
+    } finally {
+      System.setOut(original);
+    }
+
+    return captured.toString().trim();
+  }
+}
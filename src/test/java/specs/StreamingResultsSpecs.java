@@ -0,0 +1,135 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.xit;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+@RunWith(Spectrum.class)
+public class StreamingResultsSpecs {
+  {
+    describe("Streaming results", () -> {
+
+      final Block suite = () -> {
+        describe("reported suite", () -> {
+          it("passes", () -> {
+          });
+          it("fails <badly>", () -> {
+            throw new AssertionError("expected \"this\" & that");
+          });
+          it("errors", () -> {
+            throw new IllegalStateException("broken");
+          });
+          xit("is ignored", () -> {
+          });
+        });
+      };
+
+      it("writes a JUnit XML report with its counts filled in", () -> {
+        final Path directory = Files.createTempDirectory("spectrum-xml");
+        final Result result = SpectrumHelper.runWithSystemProperty(
+            Configure.XML_RESULTS_DIRECTORY_PROPERTY, directory.toString(), suite);
+
+        final Element testSuite = reportIn(directory);
+        assertThat(Integer.parseInt(testSuite.getAttribute("tests")), is(4));
+        assertThat(Integer.parseInt(testSuite.getAttribute("failures")), is(1));
+        assertThat(Integer.parseInt(testSuite.getAttribute("errors")), is(1));
+        assertThat(Integer.parseInt(testSuite.getAttribute("skipped")), is(1));
+        assertThat(result.getFailureCount(), is(2));
+
+        final NodeList testCases = testSuite.getElementsByTagName("testcase");
+        assertThat(testCases.getLength(), is(4));
+        final Element failed = (Element) testCases.item(1);
+        assertThat(failed.getAttribute("name"), is("fails <badly>"));
+        assertThat(failed.getAttribute("classname"), is("reported suite"));
+        final Element failure = (Element) failed.getElementsByTagName("failure").item(0);
+        assertThat(failure.getAttribute("message"), is("expected \"this\" & that"));
+        assertThat(failure.getTextContent(), containsString("java.lang.AssertionError"));
+      });
+
+      it("records the failures added by other reporting, such as leak detection", () -> {
+        final Path directory = Files.createTempDirectory("spectrum-xml");
+        final CountDownLatch release = new CountDownLatch(1);
+        final Result result = SpectrumHelper.withSystemProperty(
+            Configure.LEAK_DETECTION_PROPERTY, "fail",
+            () -> SpectrumHelper.runWithSystemProperty(Configure.XML_RESULTS_DIRECTORY_PROPERTY,
+                directory.toString(), () -> {
+                  describe("leaky suite", () -> {
+                    it("leaves a thread running", () -> new Thread(() -> {
+                      try {
+                        release.await();
+                      } catch (final InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                      }
+                    }, "leaked worker").start());
+                  });
+                }));
+        release.countDown();
+
+        assertThat(result.getFailureCount(), is(1));
+        final Element testSuite = reportIn(directory);
+        assertThat(Integer.parseInt(testSuite.getAttribute("failures")), is(1));
+        final Element leaked = (Element) testSuite.getElementsByTagName("testcase").item(1);
+        assertThat(leaked.getAttribute("name"), is("leaky suite"));
+        assertThat(leaked.getElementsByTagName("failure").item(0).getTextContent(),
+            containsString("thread \"leaked worker\""));
+      });
+
+      it("appends each event as a line of JSON", () -> {
+        final Path file = Files.createTempFile("spectrum", ".ndjson");
+        SpectrumHelper.runWithSystemProperty(Configure.NDJSON_RESULTS_PROPERTY, file.toString(),
+            suite);
+        SpectrumHelper.runWithSystemProperty(Configure.NDJSON_RESULTS_PROPERTY, file.toString(),
+            suite);
+
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines.stream().allMatch(line -> line.startsWith("{\"event\":")
+            && line.endsWith("}")), is(true));
+        final List<String> failures = lines.stream()
+            .filter(line -> line.contains("\"event\":\"test_failure\""))
+            .collect(Collectors.toList());
+        assertThat(failures.size(), is(4));
+        assertThat(failures.get(0), containsString("\"message\":\"expected \\\"this\\\" & that\""));
+        final String runFinished = lines.get(lines.size() - 1);
+        assertThat(runFinished, containsString("\"event\":\"run_finished\""));
+        assertThat(runFinished, containsString("\"tests\":3,\"failures\":2,\"ignored\":1"));
+      });
+
+    });
+  }
+
+  private static Element reportIn(final Path directory) throws Exception {
+    final Path report;
+    try (Stream<Path> files = Files.list(directory)) {
+      report = files.findFirst().get();
+    }
+    assertThat(report.getFileName().toString().startsWith("TEST-"), is(true));
+    final Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(report.toFile());
+
+    return document.getDocumentElement();
+  }
+}
@@ -6,14 +6,30 @@ import static com.greghaskins.spectrum.Spectrum.*;
 import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofMinutes;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 
+import com.greghaskins.spectrum.Block;
 import com.greghaskins.spectrum.Spectrum;
 import com.greghaskins.spectrum.SpectrumHelper;
 
 import org.junit.runner.Result;
 import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.TestTimedOutException;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 @RunWith(Spectrum.class)
@@ -107,6 +123,213 @@ public class TimeoutSpecs {
         });
         assertThat(result.getFailureCount(), is(0));
       });
+
+      it("runs the spec on the thread that runs the suite", () -> {
+        final AtomicReference<Thread> specThread = new AtomicReference<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with timeout", with(timeout(ofMinutes(1)), () -> {
+            it("records its thread", () -> specThread.set(Thread.currentThread()));
+          }));
+        });
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(specThread.get(), is(Thread.currentThread()));
+      });
+
+      it("fails with a timeout even if the spec carries on after being interrupted", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with low timeout", with(timeout(ofMillis(1)), () -> {
+            it("swallows the interrupt", () -> {
+              try {
+                Thread.sleep(1000);
+              } catch (InterruptedException ignored) {
+                // carry on regardless
+              }
+            });
+          }));
+        });
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getException(),
+            instanceOf(TestTimedOutException.class));
+      });
+
+      it("does not leave the thread interrupted for the next spec", () -> {
+        final AtomicBoolean interrupted = new AtomicBoolean(true);
+        SpectrumHelper.run(() -> {
+          describe("Suite with low timeout", with(timeout(ofMillis(50)), () -> {
+            it("oversleeps and fails", () -> {
+              Thread.sleep(1000);
+            });
+            it("checks for an interrupt", () -> {
+              interrupted.set(Thread.currentThread().isInterrupted());
+            });
+          }));
+        });
+        assertThat(interrupted.get(), is(false));
+      });
+
+      it("shows where the spec was stuck and which thread held the lock it waited for", () -> {
+        final Object lock = new Object();
+        final CountDownLatch locked = new CountDownLatch(1);
+        final Thread holder = new Thread(() -> {
+          synchronized (lock) {
+            locked.countDown();
+            holdFor(500);
+          }
+        }, "lock holder");
+        holder.start();
+        locked.await();
+
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with low timeout", with(timeout(ofMillis(50)), () -> {
+            it("waits for the lock", () -> {
+              synchronized (lock) {
+                lock.notifyAll();
+              }
+            });
+          }));
+        });
+        holder.join();
+
+        final Throwable timedOut = result.getFailures().get(0).getException();
+        assertThat(timedOut, instanceOf(TestTimedOutException.class));
+        assertThat(Arrays.stream(timedOut.getStackTrace())
+            .anyMatch(frame -> frame.getClassName().equals(TimeoutSpecs.class.getName())),
+            is(true));
+        final Throwable blockedBy = timedOut.getSuppressed()[0];
+        assertThat(blockedBy.getMessage(), containsString("BLOCKED on java.lang.Object@"));
+        assertThat(blockedBy.getMessage(), containsString("held by \"lock holder\""));
+        assertThat(Arrays.stream(blockedBy.getStackTrace())
+            .anyMatch(frame -> frame.getMethodName().equals("holdFor")), is(true));
+      });
+
+      it("fails a spec which ignores the interrupt without waiting for it to return", () -> {
+        final Object lock = new Object();
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread holder = new Thread(() -> {
+          synchronized (lock) {
+            locked.countDown();
+            awaitQuietly(release);
+          }
+        }, "lock holder");
+        holder.start();
+        locked.await();
+
+        final FailureRecorder failures = new FailureRecorder();
+        final Thread run = startRun(failures, () -> {
+          describe("Suite with low timeout", with(timeout(ofMillis(100)), () -> {
+            it("waits for the lock", () -> {
+              synchronized (lock) {
+                lock.notifyAll();
+              }
+            });
+          }));
+        });
+        final boolean failedWhileStuck = failures.awaitFirst();
+        release.countDown();
+        run.join();
+        holder.join();
+
+        assertThat(failedWhileStuck, is(true));
+        assertThat(failures.get(), hasSize(1));
+        assertThat(failures.get().get(0).getException(), instanceOf(TestTimedOutException.class));
+      });
+
+      it("reports a deadlock which is never broken while the spec is still stuck in it", () -> {
+        final ReentrantLock specLock = new ReentrantLock();
+        final ReentrantLock otherLock = new ReentrantLock();
+        final CountDownLatch otherLocked = new CountDownLatch(1);
+        final CountDownLatch specLocked = new CountDownLatch(1);
+        final Thread other = new Thread(() -> {
+          otherLock.lock();
+          try {
+            otherLocked.countDown();
+            awaitQuietly(specLocked);
+            specLock.lockInterruptibly();
+            specLock.unlock();
+          } catch (final InterruptedException interrupted) {
+            // only interrupted to end the deadlock, once the spec has been reported
+          } finally {
+            otherLock.unlock();
+          }
+        }, "other thread");
+        other.start();
+        otherLocked.await();
+
+        final FailureRecorder failures = new FailureRecorder();
+        final Thread run = startRun(failures, () -> {
+          describe("Suite with low timeout", with(timeout(ofMillis(100)), () -> {
+            it("deadlocks", () -> {
+              specLock.lock();
+              try {
+                specLocked.countDown();
+                otherLock.lock();
+                otherLock.unlock();
+              } finally {
+                specLock.unlock();
+              }
+            });
+          }));
+        });
+        final boolean failedWhileStuck = failures.awaitFirst();
+        other.interrupt();
+        run.join();
+        other.join();
+
+        assertThat(failedWhileStuck, is(true));
+        final Throwable timedOut = failures.get().get(0).getException();
+        assertThat(timedOut, instanceOf(TestTimedOutException.class));
+        assertThat(Arrays.stream(timedOut.getSuppressed())
+            .anyMatch(blockedBy -> blockedBy.getMessage().startsWith("Deadlock: ")), is(true));
+      });
     });
   }
+
+  /**
+   * Start running a block as a test class would be, on a thread of its own, so that a spec
+   * which is stuck does not hold up the spec checking on it.
+   */
+  private static Thread startRun(final RunListener listener, final Block block) {
+    final RunNotifier notifier = new RunNotifier();
+    notifier.addListener(listener);
+    final Thread run = new Thread(() -> SpectrumHelper.runner(block).run(notifier), "run");
+    run.start();
+
+    return run;
+  }
+
+  private static class FailureRecorder extends RunListener {
+    private final List<Failure> failures = new CopyOnWriteArrayList<>();
+    private final CountDownLatch failed = new CountDownLatch(1);
+
+    @Override
+    public void testFailure(final Failure failure) {
+      this.failures.add(failure);
+      this.failed.countDown();
+    }
+
+    boolean awaitFirst() throws InterruptedException {
+      return this.failed.await(5, TimeUnit.SECONDS);
+    }
+
+    List<Failure> get() {
+      return this.failures;
+    }
+  }
+
+  private static void awaitQuietly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void holdFor(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
 }
@@ -0,0 +1,134 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@RunWith(Spectrum.class)
+public class TimingSpecs {
+  {
+    describe("Timing a run", () -> {
+
+      it("writes each suite and spec to a CSV file in the order they started", () -> {
+        final Path csv = temporaryFile(".csv");
+        runTimedTo(csv, () -> {
+          describe("suite", () -> {
+            it("first spec", () -> {
+            });
+            it("second spec", () -> {
+            });
+          });
+        });
+
+        final List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        assertThat(lines.get(0), is("run,kind,name,start_ns,duration_ns,body_ns,hooks_ns"));
+        assertThat(lines, hasSize(5));
+        assertThat(lines.get(2), containsString(",suite,suite,"));
+        assertThat(lines.get(3), containsString(",test,first spec("));
+        assertThat(lines.get(4), containsString(",test,second spec("));
+      });
+
+      it("separates the time spent in hooks from the time in the spec", () -> {
+        final Path csv = temporaryFile(".csv");
+        runTimedTo(csv, () -> {
+          describe("suite", () -> {
+            beforeEach(() -> Thread.sleep(50));
+            it("spec", () -> {
+            });
+          });
+        });
+
+        final String[] spec = Files.readAllLines(csv, StandardCharsets.UTF_8).stream()
+            .filter(line -> line.contains(",test,"))
+            .findFirst().get().split(",");
+        final long body = Long.parseLong(spec[5]);
+        final long hooks = Long.parseLong(spec[6]);
+        assertThat(hooks, greaterThan(40_000_000L));
+        assertThat(hooks, greaterThan(body));
+      });
+
+      it("counts a suite's afterAll as hook time and its children as body time", () -> {
+        final Path csv = temporaryFile(".csv");
+        runTimedTo(csv, () -> {
+          describe("suite", () -> {
+            afterAll(() -> Thread.sleep(50));
+            it("spec", () -> Thread.sleep(50));
+          });
+        });
+
+        final String[] suite = Files.readAllLines(csv, StandardCharsets.UTF_8).stream()
+            .filter(line -> line.contains(",suite,suite,"))
+            .findFirst().get().split(",");
+        assertThat(Long.parseLong(suite[5]), greaterThan(40_000_000L));
+        assertThat(Long.parseLong(suite[6]), greaterThan(40_000_000L));
+      });
+
+      it("adds each run to a JSON array", () -> {
+        final Path json = temporaryFile(".json");
+        final Block suite = () -> {
+          describe("suite", () -> {
+            it("spec", () -> {
+            });
+          });
+        };
+        runTimedTo(json, suite);
+        runTimedTo(json, suite);
+
+        final String written = new String(Files.readAllBytes(json), StandardCharsets.UTF_8).trim();
+        assertThat(written, startsWith("["));
+        assertThat(written, endsWith("]"));
+        assertThat(kindsIn(written), is(Arrays.asList(
+            "suite", "suite", "test", "suite", "suite", "test")));
+      });
+
+    });
+  }
+
+  private static Path temporaryFile(final String extension) throws IOException {
+    final File file = File.createTempFile("timings", extension);
+    file.deleteOnExit();
+    file.delete();
+
+    return file.toPath();
+  }
+
+  private static List<String> kindsIn(final String json) {
+    final Matcher kinds = Pattern.compile("\"kind\":\"(\\w+)\"").matcher(json);
+    final StringBuilder found = new StringBuilder();
+    while (kinds.find()) {
+      found.append(kinds.group(1)).append(' ');
+    }
+
+    return Arrays.stream(found.toString().trim().split(" ")).collect(Collectors.toList());
+  }
+
+  private static void runTimedTo(final Path file, final Block block) {
+    SpectrumHelper.runWithSystemProperty(Configure.TIMING_FILE_PROPERTY, file.toString(), block);
+  }
+}